@@ -0,0 +1,59 @@
+package com.dvo.EventBooking.benchmark;
+
+import com.dvo.EventBooking.entity.Booking;
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BookingServiceBenchmark {
+    private static final int USERS = 1000;
+
+    private BookingService bookingService;
+    private final List<Long> userIds = new ArrayList<>(USERS);
+    private Long eventId;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        bookingService = application.bean(BookingService.class);
+
+        UserRepository userRepository = application.bean(UserRepository.class);
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .username("user" + i)
+                    .password("password")
+                    .email("user" + i + "@mail.ru")
+                    .roleType(RoleType.ROLE_USER)
+                    .build()).getId());
+        }
+
+        eventId = application.bean(EventService.class).save(Event.builder()
+                .name("Benchmark")
+                .description("Benchmark event")
+                .city("Moscow")
+                .address("Arbat 1")
+                .date(LocalDate.now().plusDays(30))
+                .maxAttendees(Integer.MAX_VALUE)
+                .build()).getId();
+    }
+
+    @Benchmark
+    public Booking save() {
+        Long userId = userIds.get(next++ % USERS);
+
+        return bookingService.save(new UpsertBookingRequest(userId, eventId));
+    }
+}
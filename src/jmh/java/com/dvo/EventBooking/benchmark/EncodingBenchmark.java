@@ -0,0 +1,92 @@
+package com.dvo.EventBooking.benchmark;
+
+import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
+import com.dvo.EventBooking.web.model.response.ModelListResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes event and booking list pages with the mappers the application
+ * registers for JSON, CBOR and Smile. Payload sizes, raw and gzipped, are
+ * printed once per trial next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EncodingBenchmark {
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String encoding;
+
+    @Param({"20", "1000"})
+    private int pageSize;
+
+    private ObjectMapper mapper;
+    private ModelListResponse<EventShortResponse> eventPage;
+    private ModelListResponse<BookingShortResponse> bookingPage;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        mapper = switch (encoding) {
+            case "CBOR" -> application.bean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+            case "SMILE" -> application.bean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+            default -> application.bean(ObjectMapper.class);
+        };
+
+        List<EventShortResponse> events = new ArrayList<>(pageSize);
+        List<BookingShortResponse> bookings = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            events.add(new EventShortResponse(i, "Event " + i, "Description of event " + i, "Moscow", "Arbat " + i,
+                    LocalDate.now().plusDays(i % 365), 100, (int) (i % 100)));
+            bookings.add(new BookingShortResponse(i, i % 500, i % 50, LocalDate.now()));
+        }
+        eventPage = new ModelListResponse<>((long) pageSize, events);
+        bookingPage = new ModelListResponse<>((long) pageSize, bookings);
+
+        System.out.printf("%n%s, page %d: events %d bytes (gzip %d), bookings %d bytes (gzip %d)%n",
+                encoding, pageSize,
+                eventPages().length, gzip(eventPages()).length,
+                bookingPages().length, gzip(bookingPages()).length);
+    }
+
+    @Benchmark
+    public byte[] eventPages() {
+        return write(eventPage);
+    }
+
+    @Benchmark
+    public byte[] bookingPages() {
+        return write(bookingPage);
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return out.toByteArray();
+    }
+}
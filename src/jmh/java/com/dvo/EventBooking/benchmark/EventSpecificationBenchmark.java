@@ -0,0 +1,93 @@
+package com.dvo.EventBooking.benchmark;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.EventSpecification;
+import com.dvo.EventBooking.service.EventSearchIndex;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSpecificationBenchmark {
+    private static final int EVENTS = 10_000;
+    private static final List<String> CITIES = List.of("Moscow", "Kazan", "Samara", "Perm", "Tver");
+
+    private EventRepository eventRepository;
+    private EventSearchIndex eventSearchIndex;
+    private EntityManager entityManager;
+    private final EventFilter filter = new EventFilter();
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        eventRepository = application.bean(EventRepository.class);
+        eventSearchIndex = application.bean(EventSearchIndex.class);
+        entityManager = application.bean(EntityManagerFactory.class).createEntityManager();
+
+        List<Event> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(Event.builder()
+                    .name("Event " + i)
+                    .description("Description of event " + i)
+                    .city(CITIES.get(i % CITIES.size()))
+                    .address("Street " + i)
+                    .date(LocalDate.now().plusDays(i % 365))
+                    .maxAttendees(100 + i % 10)
+                    .build());
+        }
+        long before = eventRepository.count();
+        application.bean(TransactionTemplate.class).executeWithoutResult(status -> eventRepository.insertAll(events));
+        long seeded = eventRepository.count() - before;
+        if (seeded != EVENTS) {
+            throw new IllegalStateException("Expected " + EVENTS + " seeded events, found " + seeded);
+        }
+        eventSearchIndex.rebuild();
+
+        filter.setPageNumber(0);
+        filter.setPageSize(20);
+        filter.setName("Event 1");
+        filter.setCity("Kaz");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public TypedQuery<Event> buildQuery() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = criteriaBuilder.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        query.where(EventSpecification.withFilter(filter).toPredicate(root, query, criteriaBuilder));
+
+        return entityManager.createQuery(query);
+    }
+
+    @Benchmark
+    public List<Event> findAllByFilter() {
+        return eventRepository.findAll(
+                EventSpecification.withFilter(filter),
+                PageRequest.of(filter.getPageNumber(), filter.getPageSize())
+        ).getContent();
+    }
+
+    @Benchmark
+    public List<Long> searchIndex() {
+        return eventSearchIndex.search(filter);
+    }
+}
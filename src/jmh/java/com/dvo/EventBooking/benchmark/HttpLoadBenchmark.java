@@ -0,0 +1,93 @@
+package com.dvo.EventBooking.benchmark;
+
+import com.dvo.EventBooking.EventBookingApplication;
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares platform and virtual request threads, with and without the
+ * database concurrency guard, under the same client load. Tomcat is capped
+ * at a small pool so the platform-thread limit is visible. Sample time mode
+ * reports the latency percentiles next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(128)
+public class HttpLoadBenchmark {
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"false", "true"})
+    private boolean concurrencyGuard;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest findEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EventBookingApplication.class)
+                .profiles("benchmark")
+                .web(WebApplicationType.SERVLET)
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=32",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--app.database.concurrency-guard.enabled=" + concurrencyGuard
+                );
+
+        context.getBean(UserRepository.class).save(User.builder()
+                .username("benchmark")
+                .password(context.getBean(PasswordEncoder.class).encode("password"))
+                .email("benchmark@mail.ru")
+                .roleType(RoleType.ROLE_USER)
+                .build());
+        Long eventId = context.getBean(EventService.class).save(Event.builder()
+                .name("Benchmark")
+                .description("Benchmark event")
+                .city("Moscow")
+                .address("Arbat 1")
+                .date(LocalDate.now().plusDays(30))
+                .maxAttendees(100)
+                .build()).getId();
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String credentials = Base64.getEncoder().encodeToString("benchmark:password".getBytes(StandardCharsets.UTF_8));
+
+        client = HttpClient.newHttpClient();
+        findEvent = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events/id/" + eventId))
+                .header("Authorization", "Basic " + credentials)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int findEvent() throws IOException, InterruptedException {
+        return client.send(findEvent, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,83 @@
+package com.dvo.EventBooking.benchmark;
+
+import com.dvo.EventBooking.entity.Booking;
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.mapping.BookingMapper;
+import com.dvo.EventBooking.mapping.EventMapper;
+import com.dvo.EventBooking.web.model.response.BookingResponse;
+import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import com.dvo.EventBooking.web.model.response.EventResponse;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+    private EventMapper eventMapper;
+    private BookingMapper bookingMapper;
+
+    private Event event;
+    private Booking booking;
+    private final List<BookingShortResponse> bookings = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        eventMapper = application.bean(EventMapper.class);
+        bookingMapper = application.bean(BookingMapper.class);
+
+        event = Event.builder()
+                .id(1L)
+                .name("Event")
+                .description("Description")
+                .city("Moscow")
+                .address("Arbat 1")
+                .date(LocalDate.now().plusDays(1))
+                .maxAttendees(100)
+                .bookedAttendees(20)
+                .build();
+        User user = User.builder()
+                .id(1L)
+                .username("user")
+                .email("user@mail.ru")
+                .roleType(RoleType.ROLE_USER)
+                .build();
+        booking = Booking.builder()
+                .id(1L)
+                .user(user)
+                .event(event)
+                .createDate(LocalDate.now())
+                .build();
+
+        for (long i = 1; i <= 20; i++) {
+            bookings.add(new BookingShortResponse(i, i, event.getId(), LocalDate.now()));
+        }
+    }
+
+    @Benchmark
+    public EventShortResponse eventToShortResponse() {
+        return eventMapper.eventToShortResponse(event);
+    }
+
+    @Benchmark
+    public EventResponse eventToResponse() {
+        return eventMapper.eventToResponse(event, bookings);
+    }
+
+    @Benchmark
+    public BookingResponse bookingToResponse() {
+        return bookingMapper.bookingToResponse(booking);
+    }
+
+    @Benchmark
+    public BookingShortResponse bookingToShortResponse() {
+        return bookingMapper.bookingToShortResponse(booking);
+    }
+}
@@ -0,0 +1,38 @@
+package com.dvo.EventBooking.benchmark;
+
+import com.dvo.EventBooking.security.CachingPasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordEncoderBenchmark {
+    private static final String PASSWORD = "password";
+
+    private PasswordEncoder bCryptPasswordEncoder;
+    private PasswordEncoder cachingPasswordEncoder;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bCryptPasswordEncoder = new BCryptPasswordEncoder(12);
+        cachingPasswordEncoder = new CachingPasswordEncoder(bCryptPasswordEncoder, Duration.ofHours(1), 10_000);
+        encoded = bCryptPasswordEncoder.encode(PASSWORD);
+        cachingPasswordEncoder.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public boolean bCryptMatches() {
+        return bCryptPasswordEncoder.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public boolean cachedMatches() {
+        return cachingPasswordEncoder.matches(PASSWORD, encoded);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dvo.EventBooking.configuration;
+
+import com.dvo.EventBooking.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+
+/**
+ * Recounts booked attendees from the bookings table on startup. Once
+ * partitions of past months are detached, their bookings no longer count,
+ * so only events from the oldest month that is never detached are recounted.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.booking.recount-on-startup", havingValue = "true", matchIfMissing = true)
+public class BookedAttendeesInitializer implements ApplicationRunner {
+    private final EventRepository eventRepository;
+    private final boolean partitioningEnabled;
+    private final Period detachAfter;
+
+    public BookedAttendeesInitializer(EventRepository eventRepository,
+                                      @Value("${app.booking.partitioning.enabled:false}") boolean partitioningEnabled,
+                                      @Value("${app.booking.partitioning.detach-after:P0D}") Period detachAfter) {
+        this.eventRepository = eventRepository;
+        this.partitioningEnabled = partitioningEnabled;
+        this.detachAfter = detachAfter;
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (!partitioningEnabled || detachAfter.isZero()) {
+            int updated = eventRepository.recountBookedAttendees();
+
+            log.info("Recount booked attendees for {} events", updated);
+            return;
+        }
+
+        LocalDate from = YearMonth.from(LocalDate.now().minus(detachAfter)).atDay(1);
+        int updated = eventRepository.recountBookedAttendeesFrom(from);
+
+        log.info("Recount booked attendees for {} events from {}, older events may have archived bookings", updated, from);
+    }
+}
@@ -0,0 +1,60 @@
+package com.dvo.EventBooking.configuration;
+
+import com.dvo.EventBooking.datasource.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.database.concurrency-guard.enabled", havingValue = "true")
+public class DatabaseConcurrencyConfiguration {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new ConcurrencyLimitingDataSource(
+                            dataSource.getPoolName() != null ? dataSource.getPoolName() : beanName,
+                            dataSource,
+                            dataSource.getMaximumPoolSize(),
+                            Duration.ofMillis(dataSource.getConnectionTimeout())
+                    );
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * One pair of gauges per guarded pool. Pool beans are declared as plain
+     * {@link DataSource} and wrapped by the post-processor above, so they are
+     * looked up as data sources and filtered rather than injected by type.
+     */
+    @Bean
+    public MeterBinder databaseConcurrencyMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(ConcurrencyLimitingDataSource.class::isInstance)
+                .map(ConcurrencyLimitingDataSource.class::cast)
+                .forEach(guard -> {
+                    Gauge.builder("db.concurrency.available", guard, ConcurrencyLimitingDataSource::getAvailablePermits)
+                            .description("Free database permits")
+                            .tag("pool", guard.getName())
+                            .register(registry);
+                    Gauge.builder("db.concurrency.waiting", guard, ConcurrencyLimitingDataSource::getWaitingThreads)
+                            .description("Threads waiting for a database permit")
+                            .tag("pool", guard.getName())
+                            .register(registry);
+                });
+    }
+}
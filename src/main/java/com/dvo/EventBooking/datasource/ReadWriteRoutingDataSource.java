@@ -0,0 +1,39 @@
+package com.dvo.EventBooking.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Picks the replica for read-only transactions unless the caller has to see
+ * its own writes. The key is read when a physical connection is requested,
+ * so this has to sit behind a lazy proxy that defers that request until the
+ * transaction's read-only flag is bound.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    public Route currentRoute() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWritesTracker.mustReadFromPrimary()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
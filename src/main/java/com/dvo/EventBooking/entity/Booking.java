@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
@@ -13,6 +14,10 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Builder
 @Entity(name = "bookings")
+@Table(indexes = {
+        @Index(name = "idx_bookings_event_id", columnList = "event_id"),
+        @Index(name = "idx_bookings_user_id", columnList = "user_id")
+})
 public class Booking {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,4 +33,20 @@ public class Booking {
 
     @Column(name = "create_date", nullable = false)
     private LocalDate createDate;
+
+    @Column(name = "event_date")
+    private LocalDate eventDate;
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    @PrePersist
+    @PreUpdate
+    void syncEventDate() {
+        if (event != null) {
+            eventDate = event.getDate();
+        }
+    }
 }
@@ -6,6 +6,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldNameConstants;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 
@@ -14,7 +19,12 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Builder
 @FieldNameConstants
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
+@SQLRestriction("deleted = false")
 @Entity(name = "events")
+@Table(indexes = @Index(name = "idx_events_date_city", columnList = "date, city"))
 public class Event {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,4 +47,21 @@ public class Event {
 
     @Column(name = "max_attendees", nullable = false)
     private int maxAttendees;
+
+    @Column(name = "booked_attendees", nullable = false)
+    @ColumnDefault("0")
+    private int bookedAttendees;
+
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean deleted;
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    @Column(name = "bookings_version", nullable = false)
+    @ColumnDefault("0")
+    private long bookingsVersion;
 }
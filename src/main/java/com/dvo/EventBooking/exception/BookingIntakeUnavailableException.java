@@ -0,0 +1,7 @@
+package com.dvo.EventBooking.exception;
+
+public class BookingIntakeUnavailableException extends RuntimeException {
+    public BookingIntakeUnavailableException(String message) {
+        super(message);
+    }
+}
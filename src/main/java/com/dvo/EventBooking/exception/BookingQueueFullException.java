@@ -0,0 +1,7 @@
+package com.dvo.EventBooking.exception;
+
+public class BookingQueueFullException extends RuntimeException {
+    public BookingQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.dvo.EventBooking.exception;
+
+import com.dvo.EventBooking.web.model.response.WaitlistResponse;
+import lombok.Getter;
+
+@Getter
+public class WaitlistedException extends RuntimeException {
+    private final WaitlistResponse waitlist;
+
+    public WaitlistedException(String message, WaitlistResponse waitlist) {
+        super(message);
+        this.waitlist = waitlist;
+    }
+}
@@ -18,7 +18,8 @@ public interface BookingMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "user", ignore = true),
             @Mapping(target = "event", ignore = true),
-            @Mapping(target = "createDate", ignore = true)
+            @Mapping(target = "createDate", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     Booking requestToBooking(UpdateBookingRequest request);
 
@@ -26,7 +27,8 @@ public interface BookingMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "user", ignore = true),
             @Mapping(target = "event", ignore = true),
-            @Mapping(target = "createDate", ignore = true)
+            @Mapping(target = "createDate", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void updateRequestToBooking(UpdateBookingRequest request, @MappingTarget Booking booking);
 
@@ -10,7 +10,8 @@ import org.mapstruct.*;
 public interface UserMapper {
     @Mappings({
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "roleType", ignore = true)
+            @Mapping(target = "roleType", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     User requestToUser(UpsertUserRequest request);
 
@@ -20,7 +21,8 @@ public interface UserMapper {
     @Mappings({
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "username", ignore = true),
-            @Mapping(target = "roleType", ignore = true)
+            @Mapping(target = "roleType", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void updateRequestToUser(UpdateUserRequest request, @MappingTarget User user);
 }
@@ -0,0 +1,56 @@
+package com.dvo.EventBooking.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Booking outcomes. A conflict is a booking the seat ledger let through but
+ * the conditional seat update then rejected, i.e. a lost race for the last
+ * seats of an event.
+ */
+@Component
+public class BookingMetrics {
+    private static final String NAME = "bookings";
+
+    private final Counter accepted;
+    private final Counter rejectedFull;
+    private final Counter conflicts;
+
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        this.accepted = counter(meterRegistry, "accepted");
+        this.rejectedFull = counter(meterRegistry, "rejected_full");
+        this.conflicts = counter(meterRegistry, "conflict");
+    }
+
+    public void accepted(int count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accepted.increment(count);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accepted.increment(count);
+            }
+        });
+    }
+
+    public void rejectedFull(int count) {
+        rejectedFull.increment(count);
+    }
+
+    public void conflict() {
+        conflicts.increment();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(NAME)
+                .description("Booking attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
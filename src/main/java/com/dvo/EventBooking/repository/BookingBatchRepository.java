@@ -0,0 +1,11 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Booking;
+
+import java.util.List;
+
+public interface BookingBatchRepository {
+    List<Long> insertAll(List<Booking> bookings);
+
+    int deleteChunkByEventId(Long eventId, int limit);
+}
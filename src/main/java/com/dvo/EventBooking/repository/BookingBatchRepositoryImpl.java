@@ -0,0 +1,58 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Booking;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookingBatchRepositoryImpl implements BookingBatchRepository {
+    private static final String INSERT_BOOKING = "insert into bookings (user_id, event_id, create_date, event_date) values (?, ?, ?, ?)";
+    private static final String DELETE_CHUNK_BY_EVENT_ID = "delete from bookings where event_date = (select date from events where id = ?) " +
+            "and id in (select id from bookings where event_id = ? and event_date = (select date from events where id = ?) limit ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_BOOKING, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Booking booking = bookings.get(i);
+                        ps.setLong(1, booking.getUser().getId());
+                        ps.setLong(2, booking.getEvent().getId());
+                        ps.setDate(3, Date.valueOf(booking.getCreateDate()));
+                        ps.setObject(4, booking.getEvent().getDate());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return bookings.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+
+    @Override
+    public int deleteChunkByEventId(Long eventId, int limit) {
+        return jdbcTemplate.update(DELETE_CHUNK_BY_EVENT_ID, eventId, eventId, eventId, limit);
+    }
+}
@@ -0,0 +1,9 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.web.model.response.BookingExportRow;
+
+import java.util.function.Consumer;
+
+public interface BookingExportRepository {
+    void streamByEventId(Long eventId, Consumer<BookingExportRow> consumer);
+}
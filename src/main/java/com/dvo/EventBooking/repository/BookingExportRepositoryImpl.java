@@ -0,0 +1,53 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.web.model.response.BookingExportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Reads an event's bookings through a forward-only, read-only cursor. With
+ * auto-commit off (the caller's transaction) PostgreSQL fetches the rows in
+ * batches of the fetch size instead of materializing the whole result.
+ */
+public class BookingExportRepositoryImpl implements BookingExportRepository {
+    private static final String SELECT_BY_EVENT_ID = "select b.id, b.create_date, u.id as user_id, u.username, u.email, u.first_name, u.last_name " +
+            "from bookings b join users u on u.id = b.user_id " +
+            "where b.event_id = ? and b.event_date = (select e.date from events e where e.id = ? and e.deleted = false) order by b.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public BookingExportRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                       @Value("${app.booking.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void streamByEventId(Long eventId, Consumer<BookingExportRow> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_BY_EVENT_ID, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, eventId);
+                    statement.setLong(2, eventId);
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(BookingExportRow.builder()
+                            .bookingId(resultSet.getLong("id"))
+                            .createDate(resultSet.getObject("create_date", LocalDate.class))
+                            .userId(resultSet.getLong("user_id"))
+                            .username(resultSet.getString("username"))
+                            .email(resultSet.getString("email"))
+                            .firstName(resultSet.getString("first_name"))
+                            .lastName(resultSet.getString("last_name"))
+                            .build());
+                });
+    }
+}
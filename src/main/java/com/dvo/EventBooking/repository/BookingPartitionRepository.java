@@ -0,0 +1,23 @@
+package com.dvo.EventBooking.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingPartitionRepository {
+    int backfillEventDates();
+
+    void lockMaintenance();
+
+    boolean isPartitioned();
+
+    List<String> findPartitionNames();
+
+    Optional<LocalDate> findOldestDefaultEventDate();
+
+    boolean tableExists(String name);
+
+    void createPartition(String name, LocalDate from, LocalDate to);
+
+    void detachPartition(String name, String archiveName);
+}
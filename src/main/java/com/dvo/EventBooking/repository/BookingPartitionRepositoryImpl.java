@@ -0,0 +1,87 @@
+package com.dvo.EventBooking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL range partitioning of bookings by event_date. The plain table
+ * created by schema generation is converted once by
+ * {@code db/booking-partitioning.sql}; monthly partitions are then carved out
+ * of the default one. Detaching a partition only touches the catalog, so
+ * archiving a month does not depend on its size.
+ */
+@RequiredArgsConstructor
+public class BookingPartitionRepositoryImpl implements BookingPartitionRepository {
+    private static final String DEFAULT_PARTITION = "bookings_default";
+
+    private static final String BACKFILL_EVENT_DATES = "update bookings b set event_date = (select e.date from events e where e.id = b.event_id) where b.event_date is null";
+    private static final long MAINTENANCE_LOCK = 0x626f6f6b696e6773L;
+    private static final String LOCK_MAINTENANCE = "select pg_advisory_xact_lock(" + MAINTENANCE_LOCK + ")";
+    private static final String IS_PARTITIONED = "select count(*) from pg_partitioned_table where partrelid = to_regclass('bookings')";
+    private static final String FIND_PARTITION_NAMES = "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid where i.inhparent = to_regclass('bookings') order by c.relname";
+    private static final String FIND_OLDEST_DEFAULT_EVENT_DATE = "select min(event_date) from " + DEFAULT_PARTITION;
+    private static final String TABLE_EXISTS = "select to_regclass(?) is not null";
+    private static final String FIND_FOREIGN_KEYS = "select conname from pg_constraint where conrelid = to_regclass(?) and contype = 'f'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int backfillEventDates() {
+        return jdbcTemplate.update(BACKFILL_EVENT_DATES);
+    }
+
+    @Override
+    public void lockMaintenance() {
+        jdbcTemplate.execute(LOCK_MAINTENANCE);
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED, Integer.class);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(FIND_PARTITION_NAMES, String.class);
+    }
+
+    @Override
+    public Optional<LocalDate> findOldestDefaultEventDate() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(FIND_OLDEST_DEFAULT_EVENT_DATE, Date.class))
+                .map(Date::toLocalDate);
+    }
+
+    @Override
+    public boolean tableExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TABLE_EXISTS, Boolean.class, name));
+    }
+
+    /**
+     * The default partition is locked first so that no row of the month
+     * reaches it between the copy and the delete.
+     */
+    @Override
+    public void createPartition(String name, LocalDate from, LocalDate to) {
+        jdbcTemplate.execute("lock table " + DEFAULT_PARTITION + " in access exclusive mode");
+        jdbcTemplate.execute("create table " + name + " (like bookings including defaults)");
+        jdbcTemplate.update("insert into " + name + " select * from " + DEFAULT_PARTITION + " where event_date >= ? and event_date < ?",
+                Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.update("delete from " + DEFAULT_PARTITION + " where event_date >= ? and event_date < ?",
+                Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.execute("alter table bookings attach partition " + name + " for values from ('" + from + "') to ('" + to + "')");
+    }
+
+    @Override
+    public void detachPartition(String name, String archiveName) {
+        jdbcTemplate.execute("alter table bookings detach partition " + name);
+        jdbcTemplate.queryForList(FIND_FOREIGN_KEYS, String.class, name)
+                .forEach(constraint -> jdbcTemplate.execute("alter table " + name + " drop constraint \"" + constraint + "\""));
+        jdbcTemplate.execute("alter table " + name + " rename to " + archiveName);
+    }
+}
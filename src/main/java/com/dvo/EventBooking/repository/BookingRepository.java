@@ -1,13 +1,67 @@
 package com.dvo.EventBooking.repository;
 
 import com.dvo.EventBooking.entity.Booking;
+import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    void deleteByEventId(Long eventId);
-    void deleteByUserId(Long userId);
-    int countByEventId(Long eventId);
-    List<Booking> findAllByEventId(Long eventId);
+/**
+ * Per-event queries also match event_date against the event's date, which
+ * lets PostgreSQL prune a partitioned bookings table down to one partition.
+ * Reads skip bookings of soft-deleted events still being purged: per-event
+ * queries get no date from the restricted events subquery, the others check
+ * {@code b.event.deleted} explicitly.
+ */
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingBatchRepository, BookingExportRepository, BookingPartitionRepository {
+    @Query("select count(b) from bookings b where b.event.id = :eventId and b.eventDate = (select e.date from events e where e.id = :eventId)")
+    int countByEventId(@Param("eventId") Long eventId);
+
+    @Query("select b from bookings b where b.event.id = :eventId and b.eventDate = (select e.date from events e where e.id = :eventId)")
+    List<Booking> findAllByEventId(@Param("eventId") Long eventId);
+
+    @Query(value = "select b from bookings b where b.event.deleted = false",
+            countQuery = "select count(b) from bookings b where b.event.deleted = false")
+    Page<Booking> findAllActive(Pageable pageable);
+
+    @Query("select b from bookings b where b.id = :id and b.event.deleted = false")
+    Optional<Booking> findActiveById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"user", "event"})
+    @Query("select b from bookings b where b.id = :id and b.event.deleted = false")
+    Optional<Booking> findWithUserAndEventById(@Param("id") Long id);
+
+    @Query("select new com.dvo.EventBooking.web.model.response.BookingShortResponse(b.id, b.user.id, b.event.id, b.createDate) from bookings b where b.event.id = :eventId and b.eventDate = (select e.date from events e where e.id = :eventId) order by b.id")
+    List<BookingShortResponse> findAllShortByEventId(@Param("eventId") Long eventId);
+
+    @Query(value = "select new com.dvo.EventBooking.web.model.response.BookingShortResponse(b.id, b.user.id, b.event.id, b.createDate) from bookings b where b.event.deleted = false",
+            countQuery = "select count(b) from bookings b where b.event.deleted = false")
+    Page<BookingShortResponse> findAllShort(Pageable pageable);
+
+    @Query("select new com.dvo.EventBooking.web.model.response.BookingShortResponse(b.id, b.user.id, b.event.id, b.createDate) from bookings b where b.id > :afterId and b.event.deleted = false order by b.id")
+    List<BookingShortResponse> findAllShortAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from bookings b where b.event.id = :eventId and b.eventDate = (select e.date from events e where e.id = :eventId)")
+    void deleteByEventId(@Param("eventId") Long eventId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update bookings b set b.eventDate = :eventDate where b.event.id = :eventId")
+    int updateEventDateByEventId(@Param("eventId") Long eventId, @Param("eventDate") LocalDate eventDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from bookings b where b.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    @Query("select distinct b.event.id from bookings b where b.user.id = :userId")
+    List<Long> findEventIdsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,9 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Event;
+
+import java.util.List;
+
+public interface EventBatchRepository {
+    List<Long> insertAll(List<Event> events);
+}
@@ -0,0 +1,53 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class EventBatchRepositoryImpl implements EventBatchRepository {
+    private static final String INSERT_EVENT = "insert into events (name, description, city, address, date, max_attendees, booked_attendees) values (?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<Event> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_EVENT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Event event = events.get(i);
+                        ps.setString(1, event.getName());
+                        ps.setString(2, event.getDescription());
+                        ps.setString(3, event.getCity());
+                        ps.setString(4, event.getAddress());
+                        ps.setDate(5, Date.valueOf(event.getDate()));
+                        ps.setInt(6, event.getMaxAttendees());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.dvo.EventBooking.repository;
+
+import java.util.List;
+
+public interface EventPurgeRepository {
+    int markDeleted(Long id);
+
+    int deletePurged(Long id);
+
+    List<Long> findDeletedIds();
+}
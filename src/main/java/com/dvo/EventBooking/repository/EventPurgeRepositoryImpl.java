@@ -0,0 +1,53 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Event;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Soft deletion for events purged in the background. The entity filters out
+ * deleted rows, so these statements go through plain SQL and evict the
+ * event from the second-level cache themselves.
+ */
+@RequiredArgsConstructor
+public class EventPurgeRepositoryImpl implements EventPurgeRepository {
+    private static final String MARK_DELETED = "update events set deleted = true where id = ? and deleted = false";
+    private static final String DELETE_PURGED = "delete from events where id = ? and deleted = true";
+    private static final String FIND_DELETED_IDS = "select id from events where deleted = true order by id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int markDeleted(Long id) {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Event.class, id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(Event.class, id);
+                }
+            });
+        }
+
+        return jdbcTemplate.update(MARK_DELETED, id);
+    }
+
+    @Override
+    public int deletePurged(Long id) {
+        return jdbcTemplate.update(DELETE_PURGED, id);
+    }
+
+    @Override
+    public List<Long> findDeletedIds() {
+        return jdbcTemplate.queryForList(FIND_DELETED_IDS, Long.class);
+    }
+}
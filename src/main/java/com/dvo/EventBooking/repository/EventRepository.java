@@ -1,8 +1,29 @@
 package com.dvo.EventBooking.repository;
 
 import com.dvo.EventBooking.entity.Event;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>, EventBatchRepository, EventSeatRepository, EventPurgeRepository {
+    @Query("select e.id as id, e.maxAttendees - e.bookedAttendees as availableSeats, e.bookingsVersion as bookingsVersion from events e")
+    List<EventSeatsProjection> findAllAvailableSeats();
+
+    @Query("select e.id as id, e.maxAttendees - e.bookedAttendees as availableSeats, e.bookingsVersion as bookingsVersion from events e where e.id in :ids")
+    List<EventSeatsProjection> findAvailableSeatsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from events e where e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from events e where e.id in :ids order by e.id")
+    List<Event> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
 }
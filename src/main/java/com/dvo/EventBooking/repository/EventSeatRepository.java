@@ -0,0 +1,21 @@
+package com.dvo.EventBooking.repository;
+
+import java.time.LocalDate;
+
+public interface EventSeatRepository {
+    int reserveSeat(Long id);
+
+    int reserveSeats(Long id, int seats);
+
+    int releaseSeat(Long id);
+
+    int releaseSeatsByUserId(Long userId);
+
+    int resetBookedAttendees(Long id);
+
+    int recountBookedAttendees();
+
+    int recountBookedAttendeesFrom(LocalDate date);
+
+    int touchBookings(Long id);
+}
@@ -0,0 +1,113 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Event;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Seat counter updates in plain SQL. A JPQL bulk update would drop the whole
+ * second-level cache region of events on every booking, so only the touched
+ * events are evicted here, before the update and again once the transaction
+ * completes. Every statement also bumps bookings_version, the version of the
+ * event's booking set.
+ */
+@RequiredArgsConstructor
+public class EventSeatRepositoryImpl implements EventSeatRepository {
+    private static final String RESERVE_SEAT = "update events set booked_attendees = booked_attendees + 1, bookings_version = bookings_version + 1 where id = ? and booked_attendees < max_attendees";
+    private static final String RESERVE_SEATS = "update events set booked_attendees = booked_attendees + ?, bookings_version = bookings_version + 1 where id = ? and booked_attendees + ? <= max_attendees";
+    private static final String RELEASE_SEAT = "update events set booked_attendees = booked_attendees - 1, bookings_version = bookings_version + 1 where id = ? and booked_attendees > 0";
+    private static final String RELEASE_SEATS_BY_USER_ID = "update events e set booked_attendees = booked_attendees - (select count(*) from bookings b where b.event_id = e.id and b.user_id = ?), bookings_version = bookings_version + 1 where e.id in (select b.event_id from bookings b where b.user_id = ?)";
+    private static final String RESET_BOOKED_ATTENDEES = "update events set booked_attendees = 0, bookings_version = bookings_version + 1 where id = ?";
+    private static final String RECOUNT_BOOKED_ATTENDEES = "update events e set booked_attendees = (select count(*) from bookings b where b.event_id = e.id), bookings_version = bookings_version + 1";
+    private static final String RECOUNT_BOOKED_ATTENDEES_FROM = RECOUNT_BOOKED_ATTENDEES + " where e.date >= ?";
+    private static final String TOUCH_BOOKINGS = "update events set bookings_version = bookings_version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int reserveSeat(Long id) {
+        evict(id);
+
+        return jdbcTemplate.update(RESERVE_SEAT, id);
+    }
+
+    @Override
+    public int reserveSeats(Long id, int seats) {
+        evict(id);
+
+        return jdbcTemplate.update(RESERVE_SEATS, seats, id, seats);
+    }
+
+    @Override
+    public int releaseSeat(Long id) {
+        evict(id);
+
+        return jdbcTemplate.update(RELEASE_SEAT, id);
+    }
+
+    @Override
+    public int releaseSeatsByUserId(Long userId) {
+        evictAll();
+
+        return jdbcTemplate.update(RELEASE_SEATS_BY_USER_ID, userId, userId);
+    }
+
+    @Override
+    public int resetBookedAttendees(Long id) {
+        evict(id);
+
+        return jdbcTemplate.update(RESET_BOOKED_ATTENDEES, id);
+    }
+
+    @Override
+    public int recountBookedAttendees() {
+        evictAll();
+
+        return jdbcTemplate.update(RECOUNT_BOOKED_ATTENDEES);
+    }
+
+    @Override
+    public int recountBookedAttendeesFrom(LocalDate date) {
+        evictAll();
+
+        return jdbcTemplate.update(RECOUNT_BOOKED_ATTENDEES_FROM, Date.valueOf(date));
+    }
+
+    @Override
+    public int touchBookings(Long id) {
+        evict(id);
+
+        return jdbcTemplate.update(TOUCH_BOOKINGS, id);
+    }
+
+    private void evict(Long id) {
+        Cache cache = entityManagerFactory.getCache();
+        onCompletion(() -> cache.evict(Event.class, id));
+    }
+
+    private void evictAll() {
+        Cache cache = entityManagerFactory.getCache();
+        onCompletion(() -> cache.evict(Event.class));
+    }
+
+    private static void onCompletion(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
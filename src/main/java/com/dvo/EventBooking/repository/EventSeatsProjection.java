@@ -0,0 +1,9 @@
+package com.dvo.EventBooking.repository;
+
+public interface EventSeatsProjection {
+    Long getId();
+
+    int getAvailableSeats();
+
+    long getBookingsVersion();
+}
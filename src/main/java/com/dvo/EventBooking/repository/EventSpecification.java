@@ -11,12 +11,24 @@ public interface EventSpecification {
         return byName(filter.getName())
                 .and(byDescription(filter.getDescription()))
                 .and(byDate(filter.getDate()))
+                .and(byDateFrom(filter.getDateFrom()))
+                .and(byDateTo(filter.getDateTo()))
                 .and(byCity(filter.getCity()))
                 .and(byAddress(filter.getAddress()))
                 .and(byMaxAttendees(filter.getMaxAttendees()))
                 ;
     }
 
+    static Specification<Event> byIdGreaterThan(Long id) {
+        return ((root, query, criteriaBuilder) -> {
+            if (id == null) {
+                return null;
+            }
+
+            return criteriaBuilder.greaterThan(root.get(Event.Fields.id), id);
+        });
+    }
+
     static Specification<Event> byName(String name) {
         return ((root, query, criteriaBuilder) -> {
             if (name == null) {
@@ -47,6 +59,26 @@ public interface EventSpecification {
         });
     }
 
+    static Specification<Event> byDateFrom(LocalDate dateFrom) {
+        return ((root, query, criteriaBuilder) -> {
+            if (dateFrom == null) {
+                return null;
+            }
+
+            return criteriaBuilder.greaterThanOrEqualTo(root.get(Event.Fields.date), dateFrom);
+        });
+    }
+
+    static Specification<Event> byDateTo(LocalDate dateTo) {
+        return ((root, query, criteriaBuilder) -> {
+            if (dateTo == null) {
+                return null;
+            }
+
+            return criteriaBuilder.lessThanOrEqualTo(root.get(Event.Fields.date), dateTo);
+        });
+    }
+
     static Specification<Event> byCity(String city) {
         return ((root, query, criteriaBuilder) -> {
             if (city == null) {
@@ -1,13 +1,21 @@
 package com.dvo.EventBooking.repository;
 
 import com.dvo.EventBooking.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    boolean existsByUsername(String username);
     boolean existsByUsernameAndEmail(String username, String email);
     Optional<User> findByUsername(String username);
     void deleteByUsername(String username);
+    List<User> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select u.id from users u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,7 @@
+package com.dvo.EventBooking.repository;
+
+import java.time.LocalDate;
+
+public interface WaitlistInsertRepository {
+    int insertIfAbsent(Long userId, Long eventId, LocalDate createDate);
+}
@@ -0,0 +1,24 @@
+package com.dvo.EventBooking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Adds a user to an event's waitlist unless already there. Concurrent
+ * duplicates meet the unique (event, user) constraint and are skipped by
+ * the statement itself, so the surrounding transaction is not aborted.
+ */
+@RequiredArgsConstructor
+public class WaitlistInsertRepositoryImpl implements WaitlistInsertRepository {
+    private static final String INSERT_IF_ABSENT = "insert into waitlist_entries (user_id, event_id, create_date) values (?, ?, ?) on conflict do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertIfAbsent(Long userId, Long eventId, LocalDate createDate) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT, userId, eventId, Date.valueOf(createDate));
+    }
+}
@@ -0,0 +1,25 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.WaitlistEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long>, WaitlistInsertRepository {
+    Optional<WaitlistEntry> findByEventIdAndUserId(Long eventId, Long userId);
+    List<WaitlistEntry> findAllByEventIdOrderById(Long eventId, Limit limit);
+    long countByEventIdAndIdLessThanEqual(Long eventId, Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from waitlist_entries w where w.event.id = :eventId")
+    void deleteByEventId(@Param("eventId") Long eventId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from waitlist_entries w where w.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -13,6 +13,10 @@ import java.util.Collections;
 public class AppUserPrincipal implements UserDetails {
     private final User user;
 
+    public Long getId() {
+        return user.getId();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority(user.getRoleType().name()));
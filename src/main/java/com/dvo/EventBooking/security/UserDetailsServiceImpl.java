@@ -1,7 +1,6 @@
 package com.dvo.EventBooking.security;
 
 import com.dvo.EventBooking.service.UserService;
-import com.dvo.EventBooking.service.impl.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,9 +11,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserService userService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return new AppUserPrincipal(userService.findByUsername(username));
+        return userPrincipalCache.get(username, () -> new AppUserPrincipal(userService.findByUsername(username)));
     }
 }
@@ -0,0 +1,68 @@
+package com.dvo.EventBooking.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, expiring cache of principals keyed by username. Evictions are
+ * applied immediately and once more after commit, so a concurrent load that
+ * read the old row cannot outlive the change.
+ */
+@Component
+public class UserPrincipalCache implements MeterBinder {
+    private final Cache<String, AppUserPrincipal> principals;
+
+    public UserPrincipalCache(@Value("${app.security.user-cache.ttl:PT5M}") Duration ttl,
+                              @Value("${app.security.user-cache.maximum-size:10000}") long maximumSize) {
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public AppUserPrincipal get(String username, Supplier<AppUserPrincipal> loader) {
+        return principals.get(username, key -> loader.get());
+    }
+
+    public void evict(String username) {
+        invalidate(() -> principals.invalidate(username));
+    }
+
+    public void evictById(Long id) {
+        invalidate(() -> principals.asMap().values().removeIf(principal -> id.equals(principal.getId())));
+    }
+
+    public CacheStats stats() {
+        return principals.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, principals, "user-principals");
+    }
+
+    private static void invalidate(Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.dvo.EventBooking.service;
+
+import com.dvo.EventBooking.web.model.request.BookingExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public interface BookingExportService {
+    long exportByEventId(Long eventId, BookingExportFormat format, Writer writer) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.dvo.EventBooking.service;
+
+import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingRequestResponse;
+
+import java.util.UUID;
+
+public interface BookingIntakeService {
+    boolean isEnabled();
+
+    BookingRequestResponse submit(UpsertBookingRequest booking);
+
+    BookingRequestResponse findByRequestId(UUID requestId);
+}
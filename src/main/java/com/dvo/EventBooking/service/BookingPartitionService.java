@@ -0,0 +1,5 @@
+package com.dvo.EventBooking.service;
+
+public interface BookingPartitionService {
+    void maintain();
+}
@@ -3,6 +3,8 @@ package com.dvo.EventBooking.service;
 import com.dvo.EventBooking.entity.Booking;
 import com.dvo.EventBooking.web.model.request.UpdateBookingRequest;
 import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingBatchItemResponse;
+import com.dvo.EventBooking.web.model.response.BookingShortResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,12 +13,20 @@ import java.util.List;
 public interface BookingService {
     Page<Booking> findAll(Pageable pageable);
 
+    Page<BookingShortResponse> findAllShort(Pageable pageable);
+
+    List<BookingShortResponse> findAllShortAfter(Long afterId, int limit);
+
     List<Booking> findAllByEventId(Long eventId);
 
+    List<BookingShortResponse> findAllShortByEventId(Long eventId);
+
     Booking findById(Long id);
 
     Booking save(UpsertBookingRequest booking);
 
+    List<BookingBatchItemResponse> saveAll(List<UpsertBookingRequest> bookings);
+
     Booking update(UpdateBookingRequest booking, Long id);
 
     void deleteById(Long id);
@@ -0,0 +1,12 @@
+package com.dvo.EventBooking.service;
+
+import com.dvo.EventBooking.web.model.response.EventImportErrorResponse;
+import com.dvo.EventBooking.web.model.response.EventImportProgressResponse;
+
+import java.io.IOException;
+
+public interface EventImportListener {
+    void onError(EventImportErrorResponse error) throws IOException;
+
+    void onProgress(EventImportProgressResponse progress) throws IOException;
+}
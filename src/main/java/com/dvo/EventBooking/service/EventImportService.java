@@ -0,0 +1,11 @@
+package com.dvo.EventBooking.service;
+
+import com.dvo.EventBooking.web.model.request.EventImportFormat;
+import com.dvo.EventBooking.web.model.response.EventImportProgressResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public interface EventImportService {
+    EventImportProgressResponse importEvents(BufferedReader reader, EventImportFormat format, EventImportListener listener) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.dvo.EventBooking.service;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface EventPageCache {
+    List<EventShortResponse> get(EventFilter filter, Supplier<List<EventShortResponse>> loader);
+
+    void evict(Event event);
+
+    void evict(Long eventId);
+
+    void refreshAvailable(Long eventId);
+
+    void clear();
+}
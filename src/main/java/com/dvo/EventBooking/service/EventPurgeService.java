@@ -0,0 +1,7 @@
+package com.dvo.EventBooking.service;
+
+public interface EventPurgeService {
+    boolean purgeLater(Long eventId);
+
+    void purge(Long eventId);
+}
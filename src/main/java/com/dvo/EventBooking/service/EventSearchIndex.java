@@ -0,0 +1,18 @@
+package com.dvo.EventBooking.service;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+
+import java.util.List;
+
+public interface EventSearchIndex {
+    boolean supports(EventFilter filter);
+
+    List<Long> search(EventFilter filter);
+
+    void index(Event event);
+
+    void remove(Long eventId);
+
+    void rebuild();
+}
@@ -3,6 +3,7 @@ package com.dvo.EventBooking.service;
 import com.dvo.EventBooking.entity.Event;
 import com.dvo.EventBooking.web.model.filter.EventFilter;
 import com.dvo.EventBooking.web.model.request.UpdateEventRequest;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
 
 import java.util.List;
 
@@ -11,6 +12,10 @@ public interface EventService {
 
     List<Event> findAllByFilter(EventFilter filter);
 
+    List<EventShortResponse> findAllShortByFilter(EventFilter filter);
+
+    List<Event> findAllByFilterAfter(EventFilter filter, Long afterId, int limit);
+
     Event findById(Long id);
 
     Event save(Event event);
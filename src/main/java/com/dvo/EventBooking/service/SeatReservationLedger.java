@@ -0,0 +1,15 @@
+package com.dvo.EventBooking.service;
+
+public interface SeatReservationLedger {
+    boolean tryAcquire(Long eventId);
+
+    void release(Long eventId);
+
+    void markSoldOut(Long eventId);
+
+    void reset(Long eventId, int availableSeats);
+
+    void remove(Long eventId);
+
+    void reload();
+}
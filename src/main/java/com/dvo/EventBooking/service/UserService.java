@@ -12,6 +12,8 @@ import java.util.List;
 public interface UserService {
     Page<User> findAll(Pageable pageable);
 
+    List<User> findAllAfter(Long afterId, int limit);
+
     User findByUsername(String username);
 
     User findById(Long id);
@@ -0,0 +1,17 @@
+package com.dvo.EventBooking.service;
+
+import com.dvo.EventBooking.web.model.response.WaitlistResponse;
+
+import java.util.Collection;
+
+public interface WaitlistService {
+    WaitlistResponse enqueue(Long userId, Long eventId);
+
+    int promote(Long eventId, int seats);
+
+    int promoteAvailable(Collection<Long> eventIds);
+
+    void deleteByUserId(Long userId);
+
+    void deleteByEventId(Long eventId);
+}
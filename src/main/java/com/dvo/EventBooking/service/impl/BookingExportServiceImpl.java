@@ -0,0 +1,78 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.service.BookingExportService;
+import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.web.model.request.BookingExportFormat;
+import com.dvo.EventBooking.web.model.response.BookingExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingExportServiceImpl implements BookingExportService {
+    private static final String CSV_HEADER = "bookingId,createDate,userId,username,email,firstName,lastName";
+
+    private final BookingRepository bookingRepository;
+    private final EventService eventService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportByEventId(Long eventId, BookingExportFormat format, Writer writer) throws IOException {
+        log.info("Call exportByEventId in BookingExportServiceImpl with event ID: {}, format: {}", eventId, format);
+
+        eventService.findById(eventId);
+        if (format == BookingExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        AtomicLong exported = new AtomicLong();
+        try {
+            bookingRepository.streamByEventId(eventId, row -> {
+                try {
+                    writer.write(format == BookingExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                    exported.incrementAndGet();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+
+        log.info("Exported {} bookings of event ID: {}", exported.get(), eventId);
+
+        return exported.get();
+    }
+
+    private static String toCsv(BookingExportRow row) {
+        return Stream.of(row.getBookingId(), row.getCreateDate(), row.getUserId(), row.getUsername(), row.getEmail(),
+                        row.getFirstName(), row.getLastName())
+                .map(value -> escapeCsv(Objects.toString(value, "")))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,254 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.exception.BookingIntakeUnavailableException;
+import com.dvo.EventBooking.exception.BookingQueueFullException;
+import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.service.BookingIntakeService;
+import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingBatchItemResponse;
+import com.dvo.EventBooking.web.model.response.BookingRequestResponse;
+import com.dvo.EventBooking.web.model.response.BookingRequestStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Accepts bookings into bounded queues partitioned by event ID. Each
+ * partition has a single writer that drains its queue in batches through
+ * {@link BookingService#saveAll}, so bookings for one event never compete
+ * for its row lock. When a batch fails as a whole, its bookings are retried
+ * one at a time so a single bad booking does not reject its neighbours.
+ * Outcomes are kept for the result TTL, up to a bounded number. Submissions are
+ * accepted only while running; the intake starts before and stops after the
+ * web server, so requests still in flight during graceful shutdown are
+ * queued and drained.
+ */
+@Service
+@Slf4j
+public class BookingIntakeServiceImpl implements BookingIntakeService, SmartLifecycle, MeterBinder {
+    private static final String PROCESSING_ERROR = "Booking could not be processed";
+
+    private final BookingService bookingService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final List<BlockingQueue<PendingBooking>> partitions;
+    private final Cache<UUID, BookingRequestResponse> results;
+    private final List<Thread> writers = new ArrayList<>();
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    public BookingIntakeServiceImpl(@Lazy BookingService bookingService,
+                                    @Value("${app.booking.intake.enabled:false}") boolean enabled,
+                                    @Value("${app.booking.intake.partitions:4}") int partitionCount,
+                                    @Value("${app.booking.intake.queue-capacity:1000}") int queueCapacity,
+                                    @Value("${app.booking.intake.batch-size:100}") int batchSize,
+                                    @Value("${app.booking.intake.result-ttl:PT10M}") Duration resultTtl,
+                                    @Value("${app.booking.intake.result-maximum-size:100000}") long resultMaximumSize) {
+        this.bookingService = bookingService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(resultTtl)
+                .maximumSize(resultMaximumSize)
+                .build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public BookingRequestResponse submit(UpsertBookingRequest booking) {
+        BookingRequestResponse pending = BookingRequestResponse.builder()
+                .requestId(UUID.randomUUID())
+                .status(BookingRequestStatus.PENDING)
+                .userId(booking.getUserId())
+                .eventId(booking.getEventId())
+                .build();
+
+        runningLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new BookingIntakeUnavailableException("Booking intake is not running");
+            }
+
+            results.put(pending.getRequestId(), pending);
+            if (!partitionOf(booking.getEventId()).offer(new PendingBooking(pending.getRequestId(), booking))) {
+                results.invalidate(pending.getRequestId());
+                throw new BookingQueueFullException(MessageFormat.format("Booking queue for event with ID: {0} is full", booking.getEventId()));
+            }
+        } finally {
+            runningLock.readLock().unlock();
+        }
+
+        return pending;
+    }
+
+    @Override
+    public BookingRequestResponse findByRequestId(UUID requestId) {
+        BookingRequestResponse result = results.getIfPresent(requestId);
+        if (result == null) {
+            throw new EntityNotFoundException(MessageFormat.format("Booking request not found with ID: {0}", requestId));
+        }
+
+        return result;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        for (int i = 0; i < partitions.size(); i++) {
+            BlockingQueue<PendingBooking> partition = partitions.get(i);
+            writers.add(Thread.ofPlatform()
+                    .name("booking-intake-" + i)
+                    .daemon()
+                    .start(() -> drain(partition)));
+        }
+    }
+
+    /**
+     * Flipping the flag under the write lock guarantees no submission lands
+     * after the writers saw it, so they drain everything that was accepted.
+     */
+    @Override
+    public void stop() {
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+
+        for (Thread writer : writers) {
+            try {
+                writer.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE - 1024;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < partitions.size(); i++) {
+            Gauge.builder("booking.intake.queue.size", partitions.get(i), BlockingQueue::size)
+                    .description("Bookings waiting in the intake partition")
+                    .tag("partition", String.valueOf(i))
+                    .register(registry);
+        }
+    }
+
+    private void drain(BlockingQueue<PendingBooking> partition) {
+        List<PendingBooking> batch = new ArrayList<>(batchSize);
+
+        while (running || !partition.isEmpty()) {
+            try {
+                PendingBooking first = partition.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                partition.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<PendingBooking> batch) {
+        try {
+            save(batch);
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                log.warn("Booking intake request {} failed", batch.get(0).requestId(), ex);
+                complete(batch.get(0), BookingRequestStatus.REJECTED, null, null, PROCESSING_ERROR);
+                return;
+            }
+
+            log.warn("Booking intake batch of {} failed, retrying one at a time: {}", batch.size(), ex.getMessage());
+            batch.forEach(pending -> process(List.of(pending)));
+        }
+    }
+
+    private void save(List<PendingBooking> batch) {
+        List<BookingBatchItemResponse> saved = bookingService.saveAll(batch.stream()
+                .map(PendingBooking::booking)
+                .toList());
+
+        for (int i = 0; i < batch.size(); i++) {
+            BookingBatchItemResponse item = saved.get(i);
+            complete(batch.get(i), statusOf(item), item.getBookingId(), item.getWaitlistPosition(), item.getError());
+        }
+    }
+
+    private void complete(PendingBooking pending, BookingRequestStatus status, Long bookingId, Long waitlistPosition, String error) {
+        results.put(pending.requestId(), BookingRequestResponse.builder()
+                .requestId(pending.requestId())
+                .status(status)
+                .userId(pending.booking().getUserId())
+                .eventId(pending.booking().getEventId())
+                .bookingId(bookingId)
+                .waitlistPosition(waitlistPosition)
+                .error(error)
+                .build());
+    }
+
+    private static BookingRequestStatus statusOf(BookingBatchItemResponse item) {
+        if (item.isCreated()) {
+            return BookingRequestStatus.CREATED;
+        }
+
+        return item.getWaitlistPosition() != null ? BookingRequestStatus.WAITLISTED : BookingRequestStatus.REJECTED;
+    }
+
+    private BlockingQueue<PendingBooking> partitionOf(Long eventId) {
+        return partitions.get(Math.floorMod(Long.hashCode(eventId), partitions.size()));
+    }
+
+    private record PendingBooking(UUID requestId, UpsertBookingRequest booking) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.service.BookingPartitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps monthly partitions of bookings, by event date, created
+ * {@code months-ahead} months in advance and detaches partitions whose
+ * events ended more than {@code detach-after} ago; months already past that
+ * cutoff are not created again. Partitioning is PostgreSQL-only and off by
+ * default, and the table itself is converted by
+ * {@code db/booking-partitioning.sql}, not by the application. The
+ * event_date backfill always runs.
+ */
+@Service
+@Slf4j
+public class BookingPartitionServiceImpl implements BookingPartitionService {
+    private static final String PARTITION_PREFIX = "bookings_p";
+    private static final String ARCHIVE_PREFIX = "bookings_archive_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final Period detachAfter;
+
+    public BookingPartitionServiceImpl(BookingRepository bookingRepository,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${app.booking.partitioning.enabled:false}") boolean enabled,
+                                       @Value("${app.booking.partitioning.months-ahead:12}") int monthsAhead,
+                                       @Value("${app.booking.partitioning.detach-after:P0D}") Period detachAfter) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.detachAfter = detachAfter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            Integer backfilled = transactionTemplate.execute(status -> bookingRepository.backfillEventDates());
+            if (backfilled != null && backfilled > 0) {
+                log.info("Event date backfilled for {} bookings", backfilled);
+            }
+
+            maintain();
+        } catch (RuntimeException ex) {
+            log.error("Bookings partition maintenance failed on startup", ex);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.booking.partitioning.maintenance-interval:PT24H}",
+            fixedDelayString = "${app.booking.partitioning.maintenance-interval:PT24H}")
+    public void scheduledMaintain() {
+        try {
+            maintain();
+        } catch (RuntimeException ex) {
+            log.error("Bookings partition maintenance failed", ex);
+        }
+    }
+
+    /**
+     * Runs in one transaction under an advisory lock, so instances sharing
+     * the database take turns and each sees the partitions the previous one
+     * created.
+     */
+    @Override
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingRepository.lockMaintenance();
+
+            if (!bookingRepository.isPartitioned()) {
+                log.warn("Bookings table is not partitioned, run db/booking-partitioning.sql first");
+                return;
+            }
+
+            createPartitions();
+            if (!detachAfter.isZero()) {
+                detachPartitions();
+            }
+        });
+    }
+
+    private void createPartitions() {
+        Set<String> partitions = new HashSet<>(bookingRepository.findPartitionNames());
+        YearMonth current = YearMonth.now();
+        YearMonth last = current.plusMonths(monthsAhead);
+        YearMonth first = bookingRepository.findOldestDefaultEventDate()
+                .map(YearMonth::from)
+                .filter(month -> month.isBefore(current))
+                .orElse(current);
+        if (!detachAfter.isZero()) {
+            YearMonth oldestKept = YearMonth.from(LocalDate.now().minus(detachAfter));
+            if (first.isBefore(oldestKept)) {
+                first = oldestKept;
+            }
+        }
+
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            String name = PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+            if (partitions.add(name)) {
+                LocalDate from = month.atDay(1);
+                bookingRepository.createPartition(name, from, from.plusMonths(1));
+                log.info("Bookings partition {} created", name);
+            }
+        }
+    }
+
+    private void detachPartitions() {
+        LocalDate cutoff = LocalDate.now().minus(detachAfter);
+        bookingRepository.findPartitionNames().stream()
+                .filter(name -> name.startsWith(PARTITION_PREFIX))
+                .filter(name -> !month(name).plusMonths(1).atDay(1).isAfter(cutoff))
+                .forEach(name -> {
+                    String archiveName = archiveName(name);
+                    bookingRepository.detachPartition(name, archiveName);
+                    log.info("Bookings partition {} detached as {}", name, archiveName);
+                });
+    }
+
+    private String archiveName(String partition) {
+        String archiveName = ARCHIVE_PREFIX + partition.substring(PARTITION_PREFIX.length());
+        String candidate = archiveName;
+        for (int attempt = 2; bookingRepository.tableExists(candidate); attempt++) {
+            candidate = archiveName + "_" + attempt;
+        }
+
+        return candidate;
+    }
+
+    private static YearMonth month(String partition) {
+        return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    }
+}
@@ -4,14 +4,26 @@ import com.dvo.EventBooking.entity.Booking;
 import com.dvo.EventBooking.entity.Event;
 import com.dvo.EventBooking.entity.User;
 import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.exception.WaitlistedException;
+import com.dvo.EventBooking.metrics.BookingMetrics;
 import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.UserRepository;
 import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.service.EventPageCache;
 import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.service.SeatReservationLedger;
 import com.dvo.EventBooking.service.UserService;
+import com.dvo.EventBooking.service.WaitlistService;
 import com.dvo.EventBooking.web.model.request.UpdateBookingRequest;
 import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingBatchItemResponse;
+import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import com.dvo.EventBooking.web.model.response.WaitlistResponse;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,25 +31,52 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.text.MessageFormat;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class BookingServiceImpl implements BookingService {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
     private final EventService eventService;
     private final UserService userService;
+    private final SeatReservationLedger seatReservationLedger;
+    private final BookingMetrics bookingMetrics;
+    private final EventPageCache eventPageCache;
+    private final WaitlistService waitlistService;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Booking> findAll(Pageable pageable) {
         log.info("Call findAll in BookingServiceImpl");
 
-        return bookingRepository.findAll(pageable);
+        return bookingRepository.findAllActive(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookingShortResponse> findAllShort(Pageable pageable) {
+        log.info("Call findAllShort in BookingServiceImpl");
+
+        return bookingRepository.findAllShort(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingShortResponse> findAllShortAfter(Long afterId, int limit) {
+        log.info("Call findAllShortAfter in BookingServiceImpl after ID: {}", afterId);
+
+        return bookingRepository.findAllShortAfter(afterId, Limit.of(limit));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Booking> findAllByEventId(Long eventId) {
         log.info("Call findAllByEventId in BookingServiceImpl with event ID: {}", eventId);
 
@@ -45,33 +84,128 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<BookingShortResponse> findAllShortByEventId(Long eventId) {
+        log.info("Call findAllShortByEventId in BookingServiceImpl with event ID: {}", eventId);
+
+        return bookingRepository.findAllShortByEventId(eventId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Booking findById(Long id) {
         log.info("Call findById in BookingServiceImpl with ID: {}", id);
 
-        return bookingRepository.findById(id)
+        return bookingRepository.findWithUserAndEventById(id)
                 .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Booking not found with ID: {0}", id)));
     }
 
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = WaitlistedException.class)
     public Booking save(UpsertBookingRequest booking) {
         log.info("Call save in BookingServiceImpl with booking: {}", booking);
 
+        // The ledger may lag behind the events table, so a miss is confirmed
+        // by the conditional seat update before the user is waitlisted.
+        boolean admitted = seatReservationLedger.tryAcquire(booking.getEventId());
         User user = userService.findById(booking.getUserId());
-        Event event = eventService.findById(booking.getEventId());
-
-        int count = bookingRepository.countByEventId(booking.getEventId());
-
-        if (count == event.getMaxAttendees()) {
-            throw new EntityNotFoundException(MessageFormat.format("Event with ID: {0} is full", booking.getEventId()));
+        if (!tryReserveSeat(booking.getEventId(), admitted)) {
+            throw waitlist(booking);
         }
+        Event event = eventService.findById(booking.getEventId());
 
         Booking newBooking = Booking.builder()
                 .user(user)
                 .event(event)
                 .createDate(LocalDate.now())
                 .build();
-        return bookingRepository.save(newBooking);
+        Booking savedBooking = bookingRepository.save(newBooking);
+        bookingMetrics.accepted(1);
+        eventPageCache.refreshAvailable(booking.getEventId());
+
+        return savedBooking;
+    }
+
+    @Override
+    @Transactional
+    public List<BookingBatchItemResponse> saveAll(List<UpsertBookingRequest> bookings) {
+        log.info("Call saveAll in BookingServiceImpl with {} bookings", bookings.size());
+
+        if (bookings.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(MessageFormat.format("Batch size {0} exceeds limit {1}", bookings.size(), MAX_BATCH_SIZE));
+        }
+
+        Set<Long> userIds = bookings.stream()
+                .map(UpsertBookingRequest::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> eventIds = bookings.stream()
+                .map(UpsertBookingRequest::getEventId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(userIds));
+        Map<Long, Event> events = eventIds.isEmpty() ? Map.of() : eventRepository.findAllByIdInForUpdate(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        Map<Long, Integer> availableSeats = new HashMap<>();
+        events.values().forEach(event -> availableSeats.put(event.getId(), event.getMaxAttendees() - event.getBookedAttendees()));
+
+        List<BookingBatchItemResponse> results = new ArrayList<>(bookings.size());
+        List<BookingBatchItemResponse> accepted = new ArrayList<>();
+        List<Booking> newBookings = new ArrayList<>();
+        Map<Long, Integer> reservedSeats = new HashMap<>();
+        int rejectedFull = 0;
+
+        for (int i = 0; i < bookings.size(); i++) {
+            UpsertBookingRequest booking = bookings.get(i);
+            BookingBatchItemResponse result = BookingBatchItemResponse.builder()
+                    .index(i)
+                    .userId(booking.getUserId())
+                    .eventId(booking.getEventId())
+                    .build();
+            results.add(result);
+
+            if (booking.getUserId() == null || booking.getEventId() == null) {
+                result.setError("User ID and event ID must be specified");
+            } else if (!existingUserIds.contains(booking.getUserId())) {
+                result.setError(MessageFormat.format("User not found with ID: {0}", booking.getUserId()));
+            } else if (!events.containsKey(booking.getEventId())) {
+                result.setError(MessageFormat.format("Event not found with ID: {0}", booking.getEventId()));
+            } else if (availableSeats.get(booking.getEventId()) <= 0) {
+                rejectedFull++;
+                result.setError(MessageFormat.format("Event with ID: {0} is full", booking.getEventId()));
+                result.setWaitlistPosition(waitlistService.enqueue(booking.getUserId(), booking.getEventId()).getPosition());
+            } else {
+                availableSeats.merge(booking.getEventId(), -1, Integer::sum);
+                reservedSeats.merge(booking.getEventId(), 1, Integer::sum);
+                accepted.add(result);
+                newBookings.add(Booking.builder()
+                        .user(userRepository.getReferenceById(booking.getUserId()))
+                        .event(events.get(booking.getEventId()))
+                        .createDate(LocalDate.now())
+                        .build());
+            }
+        }
+
+        reservedSeats.forEach((eventId, seats) -> {
+            if (eventRepository.reserveSeats(eventId, seats) == 0) {
+                bookingMetrics.conflict();
+                throw new IllegalStateException(MessageFormat.format("Event with ID: {0} has no {1} free seats", eventId, seats));
+            }
+            seatReservationLedger.reset(eventId, availableSeats.get(eventId));
+            eventPageCache.refreshAvailable(eventId);
+        });
+
+        List<Long> ids = bookingRepository.insertAll(newBookings);
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).setBookingId(ids.get(i));
+            accepted.get(i).setCreated(true);
+        }
+        bookingMetrics.rejectedFull(rejectedFull);
+        bookingMetrics.accepted(accepted.size());
+
+        return results;
     }
 
     @Override
@@ -79,22 +213,32 @@ public class BookingServiceImpl implements BookingService {
     public Booking update(UpdateBookingRequest booking, Long id) {
         log.info("Call update in BookingServiceImpl for ID:{}, with booking: {}", id, booking);
 
-        Booking existBooking = bookingRepository.findById(id)
+        Booking existBooking = bookingRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Booking not found with ID: {0}", id)));
+        if (booking.getVersion() != null && booking.getVersion() != existBooking.getVersion()) {
+            throw new OptimisticLockingFailureException(MessageFormat.format("Booking with ID: {0} was modified, current version: {1}", id, existBooking.getVersion()));
+        }
 
-        if (booking.getUserId() != null) {
+        Long oldEventId = existBooking.getEvent().getId();
+        if (booking.getUserId() != null && !Objects.equals(existBooking.getUser().getId(), booking.getUserId())) {
             User user = userService.findById(booking.getUserId());
             existBooking.setUser(user);
+            eventRepository.touchBookings(oldEventId);
         }
 
-        if (booking.getEventId() != null) {
-            Event event = eventService.findById(booking.getEventId());
-            if (!Objects.equals(existBooking.getEvent().getId(), booking.getEventId())) {
-                int count = bookingRepository.countByEventId(booking.getEventId());
-                if (count == event.getMaxAttendees()) {
-                    throw new EntityNotFoundException(MessageFormat.format("Event with ID: {0} is full", booking.getEventId()));
-                }
+        if (booking.getEventId() != null && !Objects.equals(oldEventId, booking.getEventId())) {
+            if (!seatReservationLedger.tryAcquire(booking.getEventId())) {
+                bookingMetrics.rejectedFull(1);
+                throw new EntityNotFoundException(MessageFormat.format("Event with ID: {0} is full", booking.getEventId()));
+            }
+
+            Event event = reserveSeat(booking.getEventId());
+            eventRepository.releaseSeat(oldEventId);
+            if (waitlistService.promote(oldEventId, 1) == 0) {
+                seatReservationLedger.release(oldEventId);
             }
+            eventPageCache.refreshAvailable(booking.getEventId());
+            eventPageCache.refreshAvailable(oldEventId);
             existBooking.setEvent(event);
         }
 
@@ -106,7 +250,15 @@ public class BookingServiceImpl implements BookingService {
     public void deleteById(Long id) {
         log.info("Call deleteById in BookingServiceImpl with ID: {}", id);
 
-        bookingRepository.deleteById(id);
+        bookingRepository.findActiveById(id).ifPresent(booking -> {
+            Long eventId = booking.getEvent().getId();
+            bookingRepository.delete(booking);
+            eventRepository.releaseSeat(eventId);
+            if (waitlistService.promote(eventId, 1) == 0) {
+                seatReservationLedger.release(eventId);
+            }
+            eventPageCache.refreshAvailable(eventId);
+        });
     }
 
     @Override
@@ -114,7 +266,15 @@ public class BookingServiceImpl implements BookingService {
     public void deleteByUserId(Long userId) {
         log.info("Call deleteByUserId in BookingServiceImpl with userID: {}", userId);
 
+        List<Long> eventIds = bookingRepository.findEventIdsByUserId(userId);
+        eventIds.forEach(eventId -> {
+            seatReservationLedger.remove(eventId);
+            eventPageCache.evict(eventId);
+        });
+        eventRepository.releaseSeatsByUserId(userId);
         bookingRepository.deleteByUserId(userId);
+        waitlistService.deleteByUserId(userId);
+        waitlistService.promoteAvailable(eventIds);
     }
 
     @Override
@@ -123,11 +283,46 @@ public class BookingServiceImpl implements BookingService {
         log.info("Call deleteByEventId in BookingServiceImpl with eventId: {}", eventId);
 
         bookingRepository.deleteByEventId(eventId);
+        waitlistService.deleteByEventId(eventId);
+        eventRepository.resetBookedAttendees(eventId);
+        seatReservationLedger.remove(eventId);
+        eventPageCache.evict(eventId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public int countByEventId(Long eventId) {
 
         return bookingRepository.countByEventId(eventId);
     }
+
+    private Event reserveSeat(Long eventId) {
+        if (!tryReserveSeat(eventId, true)) {
+            throw new EntityNotFoundException(MessageFormat.format("Event with ID: {0} is full", eventId));
+        }
+
+        return eventService.findById(eventId);
+    }
+
+    private boolean tryReserveSeat(Long eventId, boolean admittedByLedger) {
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            eventService.findById(eventId);
+            seatReservationLedger.markSoldOut(eventId);
+            if (admittedByLedger) {
+                bookingMetrics.conflict();
+            } else {
+                bookingMetrics.rejectedFull(1);
+            }
+            return false;
+        }
+
+        return true;
+    }
+
+    private WaitlistedException waitlist(UpsertBookingRequest booking) {
+        WaitlistResponse waitlist = waitlistService.enqueue(booking.getUserId(), booking.getEventId());
+
+        return new WaitlistedException(MessageFormat.format("Event with ID: {0} is full, waitlist position: {1}",
+                booking.getEventId(), waitlist.getPosition()), waitlist);
+    }
 }
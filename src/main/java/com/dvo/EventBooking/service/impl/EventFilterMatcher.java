@@ -0,0 +1,29 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+
+import java.time.LocalDate;
+
+/**
+ * In-memory counterpart of {@link com.dvo.EventBooking.repository.EventSpecification#withFilter}.
+ */
+final class EventFilterMatcher {
+    private EventFilterMatcher() {
+    }
+
+    static boolean matches(EventFilter filter, String name, String description, String city, String address,
+                           LocalDate date, int maxAttendees) {
+        return contains(name, filter.getName())
+                && contains(description, filter.getDescription())
+                && contains(city, filter.getCity())
+                && contains(address, filter.getAddress())
+                && (filter.getDate() == null || filter.getDate().equals(date))
+                && (filter.getDateFrom() == null || (date != null && !date.isBefore(filter.getDateFrom())))
+                && (filter.getDateTo() == null || (date != null && !date.isAfter(filter.getDateTo())))
+                && (filter.getMaxAttendees() == null || filter.getMaxAttendees() == maxAttendees);
+    }
+
+    private static boolean contains(String value, String term) {
+        return term == null || (value != null && value.contains(term));
+    }
+}
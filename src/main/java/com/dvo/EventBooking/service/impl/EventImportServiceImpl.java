@@ -0,0 +1,181 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.mapping.EventMapper;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.service.EventImportListener;
+import com.dvo.EventBooking.service.EventImportService;
+import com.dvo.EventBooking.service.EventPageCache;
+import com.dvo.EventBooking.service.EventSearchIndex;
+import com.dvo.EventBooking.service.SeatReservationLedger;
+import com.dvo.EventBooking.web.model.request.EventImportFormat;
+import com.dvo.EventBooking.web.model.request.UpsertEventRequest;
+import com.dvo.EventBooking.web.model.response.EventImportErrorResponse;
+import com.dvo.EventBooking.web.model.response.EventImportProgressResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventImportServiceImpl implements EventImportService {
+    private static final int CHUNK_SIZE = 500;
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "city", "address", "date", "maxattendees");
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final SeatReservationLedger seatReservationLedger;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventPageCache eventPageCache;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public EventImportProgressResponse importEvents(BufferedReader reader, EventImportFormat format, EventImportListener listener) throws IOException {
+        log.info("Call importEvents in EventImportServiceImpl with format: {}", format);
+
+        EventImportProgressResponse progress = new EventImportProgressResponse();
+        List<Event> chunk = new ArrayList<>(CHUNK_SIZE);
+        Map<String, Integer> csvHeader = null;
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            if (format == EventImportFormat.CSV && csvHeader == null) {
+                csvHeader = parseCsvHeader(line);
+                continue;
+            }
+
+            progress.setProcessed(progress.getProcessed() + 1);
+            try {
+                UpsertEventRequest request = format == EventImportFormat.CSV
+                        ? parseCsvLine(line, csvHeader)
+                        : objectMapper.readValue(line, UpsertEventRequest.class);
+                validate(request);
+                chunk.add(eventMapper.requestToEvent(request));
+            } catch (Exception ex) {
+                progress.setFailed(progress.getFailed() + 1);
+                listener.onError(new EventImportErrorResponse(lineNumber, ex.getMessage()));
+            }
+
+            if (chunk.size() == CHUNK_SIZE) {
+                flush(chunk, progress, listener);
+            }
+        }
+
+        flush(chunk, progress, listener);
+        progress.setCompleted(true);
+
+        log.info("Events import completed: {}", progress);
+
+        return progress;
+    }
+
+    private void flush(List<Event> chunk, EventImportProgressResponse progress, EventImportListener listener) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = eventRepository.insertAll(chunk);
+            for (int i = 0; i < ids.size(); i++) {
+                chunk.get(i).setId(ids.get(i));
+                seatReservationLedger.reset(ids.get(i), chunk.get(i).getMaxAttendees());
+                eventSearchIndex.index(chunk.get(i));
+            }
+            eventPageCache.clear();
+        });
+        progress.setImported(progress.getImported() + chunk.size());
+        chunk.clear();
+
+        log.info("Events import progress: {}", progress);
+        listener.onProgress(progress);
+    }
+
+    private void validate(UpsertEventRequest request) {
+        Set<ConstraintViolation<UpsertEventRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = splitCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+
+        if (!header.keySet().containsAll(CSV_COLUMNS)) {
+            throw new IllegalArgumentException(MessageFormat.format("CSV header must contain columns: {0}", CSV_COLUMNS));
+        }
+
+        return header;
+    }
+
+    private UpsertEventRequest parseCsvLine(String line, Map<String, Integer> header) {
+        List<String> values = splitCsvLine(line);
+        if (values.size() < header.size()) {
+            throw new IllegalArgumentException(MessageFormat.format("Expected {0} columns, found {1}", header.size(), values.size()));
+        }
+
+        return UpsertEventRequest.builder()
+                .name(values.get(header.get("name")))
+                .description(values.get(header.get("description")))
+                .city(values.get(header.get("city")))
+                .address(values.get(header.get("address")))
+                .date(LocalDate.parse(values.get(header.get("date")).trim()))
+                .maxAttendees(Integer.parseInt(values.get(header.get("maxattendees")).trim()))
+                .build();
+    }
+
+    private List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+
+        return values;
+    }
+}
@@ -0,0 +1,249 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.EventSeatsProjection;
+import com.dvo.EventBooking.service.EventPageCache;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.filter.EventSort;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Pages of {@link EventShortResponse} keyed by filter and page. Editing an
+ * event drops every page of each filter the event appears in or now matches;
+ * booking changes only rewrite availableAttendees of the cached copies. The
+ * value is read in the booking transaction after its seat update, applied
+ * once it commits to the pages indexed under the event, and skipped if a
+ * newer bookings_version was already applied, so overlapping updates cannot
+ * drift.
+ */
+@Service
+public class EventPageCacheImpl implements EventPageCache, MeterBinder {
+    private final Cache<PageKey, List<EventShortResponse>> pages;
+    private final Map<Long, CachedEvent> cachedEvents = new ConcurrentHashMap<>();
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+
+    public EventPageCacheImpl(EventRepository eventRepository,
+                              @Value("${app.events.page-cache.enabled:true}") boolean enabled,
+                              @Value("${app.events.page-cache.ttl:PT30S}") Duration ttl,
+                              @Value("${app.events.page-cache.maximum-size:1000}") long maximumSize) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .<PageKey, List<EventShortResponse>>removalListener(this::unindex)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public List<EventShortResponse> get(EventFilter filter, Supplier<List<EventShortResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        return pages.get(PageKey.of(filter), key -> {
+            List<EventShortResponse> page = List.copyOf(loader.get());
+            page.forEach(event -> cachedEvents.compute(event.getId(), (id, cached) -> {
+                CachedEvent indexed = cached == null ? new CachedEvent() : cached;
+                indexed.pages.add(key);
+                return indexed;
+            }));
+
+            return page;
+        });
+    }
+
+    @Override
+    public void evict(Event event) {
+        onCompletion(() -> evictFilters((key, page) -> contains(page, event.getId()) || key.filter().matches(event)));
+    }
+
+    @Override
+    public void evict(Long eventId) {
+        onCompletion(() -> evictFilters((key, page) -> contains(page, eventId)));
+    }
+
+    @Override
+    public void refreshAvailable(Long eventId) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!cachedEvents.containsKey(eventId)) {
+            afterCommit(() -> evictPages(eventId));
+            return;
+        }
+
+        List<EventSeatsProjection> seats = eventRepository.findAvailableSeatsByIdIn(List.of(eventId));
+        afterCommit(() -> seats.forEach(this::applyAvailable));
+    }
+
+    @Override
+    public void clear() {
+        onCompletion(pages::invalidateAll);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pages, "event-pages");
+    }
+
+    private void applyAvailable(EventSeatsProjection seats) {
+        CachedEvent cached = cachedEvents.get(seats.getId());
+        if (cached == null || !cached.advanceTo(seats.getBookingsVersion())) {
+            return;
+        }
+
+        List.copyOf(cached.pages).forEach(key -> pages.asMap().computeIfPresent(key, (k, page) -> contains(page, seats.getId())
+                ? page.stream().map(event -> withAvailable(event, seats.getId(), seats.getAvailableSeats())).toList()
+                : page));
+    }
+
+    /**
+     * A page holding the event was loaded while its booking transaction was
+     * still open, so it may miss that booking.
+     */
+    private void evictPages(Long eventId) {
+        CachedEvent cached = cachedEvents.get(eventId);
+        if (cached != null) {
+            pages.invalidateAll(List.copyOf(cached.pages));
+        }
+    }
+
+    private void unindex(PageKey key, List<EventShortResponse> page, RemovalCause cause) {
+        if (key == null || page == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+
+        page.forEach(event -> cachedEvents.computeIfPresent(event.getId(), (id, cached) -> {
+            List<EventShortResponse> current = pages.getIfPresent(key);
+            if (current == null || !contains(current, id)) {
+                cached.pages.remove(key);
+            }
+
+            return cached.pages.isEmpty() ? null : cached;
+        }));
+    }
+
+    private void evictFilters(BiPredicate<PageKey, List<EventShortResponse>> affected) {
+        Set<FilterKey> filters = pages.asMap().entrySet().stream()
+                .filter(entry -> affected.test(entry.getKey(), entry.getValue()))
+                .map(entry -> entry.getKey().filter())
+                .collect(Collectors.toSet());
+
+        if (!filters.isEmpty()) {
+            pages.asMap().keySet().removeIf(key -> filters.contains(key.filter()));
+        }
+    }
+
+    private static boolean contains(List<EventShortResponse> page, Long eventId) {
+        return page.stream().anyMatch(event -> eventId.equals(event.getId()));
+    }
+
+    private static EventShortResponse withAvailable(EventShortResponse event, Long eventId, int availableSeats) {
+        if (!eventId.equals(event.getId())) {
+            return event;
+        }
+
+        return new EventShortResponse(event.getId(), event.getName(), event.getDescription(), event.getCity(),
+                event.getAddress(), event.getDate(), event.getMaxAttendees(), Math.max(0, availableSeats));
+    }
+
+    private static void onCompletion(Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Pages an event appears in and the newest bookings_version written into them.
+     */
+    private static class CachedEvent {
+        private final Set<PageKey> pages = ConcurrentHashMap.newKeySet();
+        private long bookingsVersion = -1;
+
+        synchronized boolean advanceTo(long version) {
+            if (version <= bookingsVersion) {
+                return false;
+            }
+
+            bookingsVersion = version;
+            return true;
+        }
+    }
+
+    private record FilterKey(String name, String description, String city, String address, LocalDate date,
+                             LocalDate dateFrom, LocalDate dateTo, Integer maxAttendees) {
+        boolean matches(Event event) {
+            EventFilter filter = new EventFilter();
+            filter.setName(name);
+            filter.setDescription(description);
+            filter.setCity(city);
+            filter.setAddress(address);
+            filter.setDate(date);
+            filter.setDateFrom(dateFrom);
+            filter.setDateTo(dateTo);
+            filter.setMaxAttendees(maxAttendees);
+
+            return EventFilterMatcher.matches(filter, event.getName(), event.getDescription(), event.getCity(),
+                    event.getAddress(), event.getDate(), event.getMaxAttendees());
+        }
+    }
+
+    private record PageKey(FilterKey filter, EventSort sort, Integer pageNumber, Integer pageSize) {
+        static PageKey of(EventFilter filter) {
+            return new PageKey(
+                    new FilterKey(filter.getName(), filter.getDescription(), filter.getCity(), filter.getAddress(),
+                            filter.getDate(), filter.getDateFrom(), filter.getDateTo(), filter.getMaxAttendees()),
+                    filter.getSort(),
+                    filter.getPageNumber(),
+                    filter.getPageSize()
+            );
+        }
+    }
+}
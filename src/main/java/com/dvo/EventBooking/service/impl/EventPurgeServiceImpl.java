@@ -0,0 +1,138 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.service.EventPurgeService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes events with many bookings outside the API call. The event is
+ * marked deleted at once, which hides it from every query, and its bookings
+ * are then removed in short chunked transactions before the row itself.
+ * Purges interrupted by a restart or failed with an error are picked up again
+ * by a periodic sweep over the events still marked deleted.
+ */
+@Service
+@Slf4j
+public class EventPurgeServiceImpl implements EventPurgeService {
+    private final EventRepository eventRepository;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int asyncThreshold;
+    private final int chunkSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+            .name("event-purge")
+            .daemon()
+            .factory());
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    public EventPurgeServiceImpl(EventRepository eventRepository,
+                                 BookingRepository bookingRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.events.purge.enabled:true}") boolean enabled,
+                                 @Value("${app.events.purge.async-threshold:10000}") int asyncThreshold,
+                                 @Value("${app.events.purge.chunk-size:1000}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.asyncThreshold = asyncThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean purgeLater(Long eventId) {
+        if (!enabled || bookingRepository.countByEventId(eventId) < asyncThreshold) {
+            return false;
+        }
+
+        if (eventRepository.markDeleted(eventId) == 0) {
+            return false;
+        }
+
+        log.info("Event with ID: {} marked deleted, bookings will be purged in background", eventId);
+        afterCommit(() -> submit(eventId));
+
+        return true;
+    }
+
+    @Override
+    public void purge(Long eventId) {
+        long purged = 0;
+        int deleted;
+
+        do {
+            deleted = transactionTemplate.execute(status -> bookingRepository.deleteChunkByEventId(eventId, chunkSize));
+            purged += deleted;
+        } while (deleted == chunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> eventRepository.deletePurged(eventId));
+
+        log.info("Event with ID: {} purged with {} bookings", eventId, purged);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        try {
+            eventRepository.findDeletedIds().forEach(this::submit);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to look up events pending purge", ex);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.events.purge.sweep-interval:PT5M}",
+            fixedDelayString = "${app.events.purge.sweep-interval:PT5M}")
+    public void scheduledResume() {
+        resume();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Long eventId) {
+        if (!queued.add(eventId)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                purge(eventId);
+            } catch (RuntimeException ex) {
+                log.warn("Purge of event with ID: {} failed, will retry on the next sweep", eventId, ex);
+            } finally {
+                queued.remove(eventId);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
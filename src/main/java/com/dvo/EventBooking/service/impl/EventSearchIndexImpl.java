@@ -0,0 +1,254 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.EventSpecification;
+import com.dvo.EventBooking.service.EventSearchIndex;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.filter.EventSort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Trigram inverted index over the text fields of events. Candidates found
+ * through the trigram postings are re-checked against the stored values,
+ * so results match the LIKE '%term%' predicates of {@link EventSpecification}.
+ * Changes committed while a rebuild scans the events table are applied to the
+ * live index and replayed onto the rebuilt one before it replaces the former.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchIndexImpl implements EventSearchIndex {
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+
+    @Value("${app.events.search-index.enabled:true}")
+    private boolean enabled;
+
+    private final Object changeLock = new Object();
+
+    private volatile Index index;
+    private List<Consumer<Index>> pendingChanges;
+
+    @Override
+    public boolean supports(EventFilter filter) {
+        return enabled && index != null && (filter.getName() != null || filter.getDescription() != null
+                || filter.getCity() != null || filter.getAddress() != null)
+                && (filter.getSort() == null || filter.getSort() == EventSort.ID);
+    }
+
+    @Override
+    public List<Long> search(EventFilter filter) {
+        Index current = index;
+
+        Set<Long> candidates = null;
+        for (Map.Entry<Field, String> term : textTerms(filter).entrySet()) {
+            for (String trigram : trigrams(term.getValue())) {
+                Set<Long> posting = current.postings.getOrDefault(term.getKey().key(trigram), Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(posting);
+                } else {
+                    candidates.retainAll(posting);
+                }
+
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+        }
+
+        Collection<Long> scan = candidates == null ? current.documents.keySet() : candidates;
+        return scan.stream()
+                .map(current.documents::get)
+                .filter(Objects::nonNull)
+                .filter(document -> document.matches(filter))
+                .map(IndexedEvent::id)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public void index(Event event) {
+        IndexedEvent document = IndexedEvent.of(event);
+        afterCommit(() -> apply(current -> current.put(document)));
+    }
+
+    @Override
+    public void remove(Long eventId) {
+        afterCommit(() -> apply(current -> current.remove(eventId)));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        }
+
+        Index rebuilt = new Index();
+        try {
+            Long afterId = 0L;
+            List<Event> events;
+            do {
+                events = eventRepository.findBy(
+                        EventSpecification.byIdGreaterThan(afterId),
+                        query -> query.sortBy(Sort.by(Event.Fields.id)).limit(REBUILD_CHUNK_SIZE).all()
+                );
+                events.forEach(event -> rebuilt.put(IndexedEvent.of(event)));
+                if (!events.isEmpty()) {
+                    afterId = events.get(events.size() - 1).getId();
+                }
+            } while (events.size() == REBUILD_CHUNK_SIZE);
+        } catch (RuntimeException ex) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            throw ex;
+        }
+
+        synchronized (changeLock) {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            index = rebuilt;
+        }
+
+        log.info("Event search index built for {} events", rebuilt.documents.size());
+    }
+
+    @Scheduled(initialDelayString = "${app.events.search-index.rebuild-interval:PT10M}",
+            fixedDelayString = "${app.events.search-index.rebuild-interval:PT10M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    private void apply(Consumer<Index> change) {
+        synchronized (changeLock) {
+            Index current = index;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private static Map<Field, String> textTerms(EventFilter filter) {
+        Map<Field, String> terms = new EnumMap<>(Field.class);
+        if (filter.getName() != null) terms.put(Field.NAME, filter.getName());
+        if (filter.getDescription() != null) terms.put(Field.DESCRIPTION, filter.getDescription());
+        if (filter.getCity() != null) terms.put(Field.CITY, filter.getCity());
+        if (filter.getAddress() != null) terms.put(Field.ADDRESS, filter.getAddress());
+
+        return terms;
+    }
+
+    private static Set<String> trigrams(String value) {
+        String normalized = value.toLowerCase(Locale.ROOT);
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            trigrams.add(normalized.substring(i, i + 3));
+        }
+
+        return trigrams;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private enum Field {
+        NAME('n'), DESCRIPTION('d'), CITY('c'), ADDRESS('a');
+
+        private final char prefix;
+
+        Field(char prefix) {
+            this.prefix = prefix;
+        }
+
+        String key(String trigram) {
+            return prefix + trigram;
+        }
+    }
+
+    private static class Index {
+        private final Map<Long, IndexedEvent> documents = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        void put(IndexedEvent document) {
+            remove(document.id());
+            documents.put(document.id(), document);
+            document.keys().forEach(key -> postings.compute(key, (k, ids) -> {
+                Set<Long> posting = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                posting.add(document.id());
+                return posting;
+            }));
+        }
+
+        void remove(Long id) {
+            IndexedEvent previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+
+            previous.keys().forEach(key -> postings.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+    }
+
+    private record IndexedEvent(Long id, String name, String description, String city, String address,
+                                LocalDate date, int maxAttendees) {
+        static IndexedEvent of(Event event) {
+            return new IndexedEvent(event.getId(), event.getName(), event.getDescription(), event.getCity(),
+                    event.getAddress(), event.getDate(), event.getMaxAttendees());
+        }
+
+        Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            trigrams(Objects.toString(name, "")).forEach(trigram -> keys.add(Field.NAME.key(trigram)));
+            trigrams(Objects.toString(description, "")).forEach(trigram -> keys.add(Field.DESCRIPTION.key(trigram)));
+            trigrams(Objects.toString(city, "")).forEach(trigram -> keys.add(Field.CITY.key(trigram)));
+            trigrams(Objects.toString(address, "")).forEach(trigram -> keys.add(Field.ADDRESS.key(trigram)));
+
+            return keys;
+        }
+
+        boolean matches(EventFilter filter) {
+            return EventFilterMatcher.matches(filter, name, description, city, address, date, maxAttendees);
+        }
+    }
+}
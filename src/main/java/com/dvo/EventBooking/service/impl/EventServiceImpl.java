@@ -6,18 +6,31 @@ import com.dvo.EventBooking.mapping.EventMapper;
 import com.dvo.EventBooking.repository.BookingRepository;
 import com.dvo.EventBooking.repository.EventRepository;
 import com.dvo.EventBooking.repository.EventSpecification;
+import com.dvo.EventBooking.service.EventPageCache;
+import com.dvo.EventBooking.service.EventPurgeService;
+import com.dvo.EventBooking.service.EventSearchIndex;
 import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.service.SeatReservationLedger;
+import com.dvo.EventBooking.service.WaitlistService;
 import com.dvo.EventBooking.web.model.filter.EventFilter;
 import com.dvo.EventBooking.web.model.request.PaginationRequest;
 import com.dvo.EventBooking.web.model.request.UpdateEventRequest;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.MessageFormat;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,8 +39,14 @@ public class EventServiceImpl implements EventService {
     private final EventRepository eventRepository;
     private final BookingRepository bookingRepository;
     private final EventMapper eventMapper;
+    private final SeatReservationLedger seatReservationLedger;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventPageCache eventPageCache;
+    private final WaitlistService waitlistService;
+    private final EventPurgeService eventPurgeService;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Event> findAll() {
         log.info("Call findAll in EventServiceImpl");
 
@@ -35,16 +54,57 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Event> findAllByFilter(EventFilter filter) {
         log.info("Call findAllByFilter in EventServiceImpl with filter: {}", filter);
 
+        if (eventSearchIndex.supports(filter)) {
+            List<Long> ids = eventSearchIndex.search(filter);
+            int from = filter.getPageNumber() * filter.getPageSize();
+            if (from >= ids.size()) {
+                return List.of();
+            }
+
+            List<Long> pageIds = ids.subList(from, Math.min(from + filter.getPageSize(), ids.size()));
+            Map<Long, Event> events = eventRepository.findAllById(pageIds).stream()
+                    .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+            return pageIds.stream()
+                    .map(events::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
         return eventRepository.findAll(
                 EventSpecification.withFilter(filter),
-                PageRequest.of(filter.getPageNumber(), filter.getPageSize())
+                PageRequest.of(filter.getPageNumber(), filter.getPageSize(),
+                        filter.getSort() != null ? filter.getSort().getSort() : Sort.unsorted())
         ).getContent();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<EventShortResponse> findAllShortByFilter(EventFilter filter) {
+        log.info("Call findAllShortByFilter in EventServiceImpl with filter: {}", filter);
+
+        return eventPageCache.get(filter, () -> findAllByFilter(filter).stream()
+                .map(eventMapper::eventToShortResponse)
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> findAllByFilterAfter(EventFilter filter, Long afterId, int limit) {
+        log.info("Call findAllByFilterAfter in EventServiceImpl with filter: {} after ID: {}", filter, afterId);
+
+        return eventRepository.findBy(
+                EventSpecification.withFilter(filter).and(EventSpecification.byIdGreaterThan(afterId)),
+                query -> query.sortBy(Sort.by(Event.Fields.id)).limit(limit).all()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Event findById(Long id) {
         log.info("Call findById in EventServiceImpl with ID: {}", id);
 
@@ -57,7 +117,12 @@ public class EventServiceImpl implements EventService {
     public Event save(Event event) {
         log.info("Call save in EventServiceImpl with event: {}", event);
 
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        seatReservationLedger.reset(savedEvent.getId(), savedEvent.getMaxAttendees() - savedEvent.getBookedAttendees());
+        eventSearchIndex.index(savedEvent);
+        eventPageCache.evict(savedEvent);
+
+        return savedEvent;
     }
 
     @Override
@@ -65,21 +130,37 @@ public class EventServiceImpl implements EventService {
     public Event update(UpdateEventRequest event, Long id) {
         log.info("Call update in EventServiceImpl for ID: {}, with event: {}", id, event);
 
-        Event existEvent = eventRepository.findById(id)
+        Event existEvent = eventRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("Event not found with ID: {0}", id)));
+        if (event.getVersion() != null && event.getVersion() != existEvent.getVersion()) {
+            throw new OptimisticLockingFailureException(MessageFormat.format("Event with ID: {0} was modified, current version: {1}", id, existEvent.getVersion()));
+        }
 
         if (event.getMaxAttendees() != null) {
-            if (event.getMaxAttendees() < bookingRepository.countByEventId(id)) {
-                throw new IllegalArgumentException(MessageFormat.format("Event with ID: {0}, new value max attendees less exists bookings {1}", id, bookingRepository.countByEventId(id)));
+            if (event.getMaxAttendees() < existEvent.getBookedAttendees()) {
+                throw new IllegalArgumentException(MessageFormat.format("Event with ID: {0}, new value max attendees less exists bookings {1}", id, existEvent.getBookedAttendees()));
             }
 
             if (event.getMaxAttendees() <= 0) {
                 throw new IllegalArgumentException(MessageFormat.format("Event with ID: {0}, new value max attendees less than 1", id));
             }
         }
+        LocalDate oldDate = existEvent.getDate();
         eventMapper.updateRequestToEvent(event, existEvent);
+        Event savedEvent = eventRepository.saveAndFlush(existEvent);
+        if (!Objects.equals(oldDate, savedEvent.getDate())) {
+            bookingRepository.updateEventDateByEventId(id, savedEvent.getDate());
+        }
+        int promoted = waitlistService.promote(id, savedEvent.getMaxAttendees() - savedEvent.getBookedAttendees());
+        if (promoted > 0) {
+            savedEvent.setBookedAttendees(savedEvent.getBookedAttendees() + promoted);
+            savedEvent.setBookingsVersion(savedEvent.getBookingsVersion() + 1);
+        }
+        seatReservationLedger.reset(id, savedEvent.getMaxAttendees() - savedEvent.getBookedAttendees());
+        eventSearchIndex.index(savedEvent);
+        eventPageCache.evict(savedEvent);
 
-        return eventRepository.save(existEvent);
+        return savedEvent;
     }
 
     @Override
@@ -87,7 +168,13 @@ public class EventServiceImpl implements EventService {
     public void deleteById(Long id) {
         log.info("Call deleteById in EventServiceImpl with ID: {}", id);
 
-        bookingRepository.deleteByEventId(id);
-        eventRepository.deleteById(id);
+        waitlistService.deleteByEventId(id);
+        if (!eventPurgeService.purgeLater(id)) {
+            bookingRepository.deleteByEventId(id);
+            eventRepository.deleteById(id);
+        }
+        seatReservationLedger.remove(id);
+        eventSearchIndex.remove(id);
+        eventPageCache.evict(id);
     }
 }
@@ -0,0 +1,230 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.EventSeatsProjection;
+import com.dvo.EventBooking.service.SeatReservationLedger;
+import com.dvo.EventBooking.service.WaitlistService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Process-local remaining-seat counters used to reject sold-out bookings
+ * before any database work. The events table stays the source of truth:
+ * an event missing from the ledger is always passed through to the database.
+ * Each event keeps one counter for its lifetime in the map and every update
+ * is applied to it in place, so completions of in-flight transactions always
+ * land on the counter they took a seat from. Absolute values read from the
+ * database exclude seats still held by in-flight transactions, which return
+ * or keep them on completion. When a reset or resync raises the free seats
+ * of a known event, its waitlist is promoted in a new transaction, since the
+ * callbacks run after the triggering transaction has completed.
+ */
+@Service
+@Slf4j
+public class SeatReservationLedgerImpl implements SeatReservationLedger {
+    private final EventRepository eventRepository;
+    private final WaitlistService waitlistService;
+    private final TransactionTemplate promotionTemplate;
+    private final Map<Long, EventSeats> seats = new ConcurrentHashMap<>();
+
+    public SeatReservationLedgerImpl(EventRepository eventRepository,
+                                     WaitlistService waitlistService,
+                                     PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.waitlistService = waitlistService;
+        this.promotionTemplate = new TransactionTemplate(transactionManager);
+        this.promotionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean tryAcquire(Long eventId) {
+        EventSeats event = seats.get(eventId);
+        if (event == null) {
+            return true;
+        }
+
+        if (!event.acquire()) {
+            return false;
+        }
+
+        afterCompletion(status -> event.complete(status == TransactionSynchronization.STATUS_COMMITTED));
+        return true;
+    }
+
+    @Override
+    public void release(Long eventId) {
+        afterCompletion(status -> {
+            EventSeats event = seats.get(eventId);
+            if (status == TransactionSynchronization.STATUS_COMMITTED && event != null) {
+                event.release();
+            }
+        });
+    }
+
+    /**
+     * The database just reported the event full. The counter is zeroed on
+     * completion unless a seat was released or the counter reset in between,
+     * in which case the newer value wins.
+     */
+    @Override
+    public void markSoldOut(Long eventId) {
+        EventSeats event = seats.get(eventId);
+        if (event == null) {
+            return;
+        }
+
+        long observed = event.releases();
+        afterCompletion(status -> event.markSoldOut(observed));
+    }
+
+    @Override
+    public void reset(Long eventId, int availableSeats) {
+        afterCompletion(status -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED && update(eventId, availableSeats)) {
+                promoteWaitlisted(List.of(eventId));
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long eventId) {
+        afterCompletion(status -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                seats.remove(eventId);
+            }
+        });
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<EventSeatsProjection> events = eventRepository.findAllAvailableSeats();
+        List<Long> raised = new ArrayList<>();
+        events.forEach(event -> {
+            if (update(event.getId(), event.getAvailableSeats())) {
+                raised.add(event.getId());
+            }
+        });
+
+        log.info("Seat reservation ledger loaded for {} events", events.size());
+        promoteWaitlisted(raised);
+    }
+
+    @Scheduled(initialDelayString = "${app.booking.ledger.resync-interval:PT1M}",
+            fixedDelayString = "${app.booking.ledger.resync-interval:PT1M}")
+    public void resync() {
+        reload();
+    }
+
+    /**
+     * Applies a database-derived value and reports whether it raised the free
+     * seats of an event the ledger already tracked.
+     */
+    private boolean update(Long eventId, int availableSeats) {
+        EventSeats event = seats.get(eventId);
+        if (event == null) {
+            seats.computeIfAbsent(eventId, id -> new EventSeats()).reset(availableSeats);
+            return false;
+        }
+
+        return event.reset(availableSeats);
+    }
+
+    private void promoteWaitlisted(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<EventSeatsProjection> promoted = promotionTemplate.execute(status -> {
+                eventRepository.findAllByIdInForUpdate(eventIds);
+                waitlistService.promoteAvailable(eventIds);
+                return eventRepository.findAvailableSeatsByIdIn(eventIds);
+            });
+            if (promoted != null) {
+                promoted.forEach(event -> update(event.getId(), event.getAvailableSeats()));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Waitlist promotion failed for events {}", eventIds, ex);
+        }
+    }
+
+    private void afterCompletion(IntConsumer callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(TransactionSynchronization.STATUS_COMMITTED);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status);
+            }
+        });
+    }
+
+    /**
+     * Remaining seats of one event, the seats taken by transactions that
+     * have not completed yet, and a count of the updates that can raise the
+     * remaining seats, which lets a stale sold-out observation be discarded.
+     */
+    private static final class EventSeats {
+        private int available;
+        private int inFlight;
+        private long releases;
+
+        synchronized boolean acquire() {
+            if (available <= 0) {
+                return false;
+            }
+
+            available--;
+            inFlight++;
+            return true;
+        }
+
+        synchronized void complete(boolean committed) {
+            inFlight--;
+            if (!committed) {
+                available++;
+            }
+        }
+
+        synchronized void release() {
+            releases++;
+            available++;
+        }
+
+        synchronized boolean reset(int availableSeats) {
+            int previous = available;
+            releases++;
+            available = Math.max(availableSeats - inFlight, 0);
+            return available > previous;
+        }
+
+        synchronized long releases() {
+            return releases;
+        }
+
+        synchronized void markSoldOut(long observedReleases) {
+            if (releases == observedReleases) {
+                available = 0;
+            }
+        }
+    }
+}
@@ -6,18 +6,28 @@ import com.dvo.EventBooking.entity.User;
 import com.dvo.EventBooking.exception.EntityNotFoundException;
 import com.dvo.EventBooking.mapping.UserMapper;
 import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
 import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.security.PasswordHasher;
+import com.dvo.EventBooking.security.UserPrincipalCache;
+import com.dvo.EventBooking.service.EventPageCache;
+import com.dvo.EventBooking.service.SeatReservationLedger;
 import com.dvo.EventBooking.service.UserService;
+import com.dvo.EventBooking.service.WaitlistService;
 import com.dvo.EventBooking.web.model.request.UpdateUserRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -26,10 +36,18 @@ import java.util.Objects;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
     private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
     private final UserMapper userMapper;
+    private final SeatReservationLedger seatReservationLedger;
+    private final UserPrincipalCache userPrincipalCache;
+    private final EventPageCache eventPageCache;
+    private final WaitlistService waitlistService;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<User> findAll(Pageable pageable) {
         log.info("Call findAll in UserServiceImpl");
 
@@ -37,6 +55,15 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllAfter(Long afterId, int limit) {
+        log.info("Call findAllAfter in UserServiceImpl after ID: {}", afterId);
+
+        return userRepository.findAllByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public User findByUsername(String username) {
         log.info("Call findByUsername in UserServiceImpl with username: {}", username);
 
@@ -45,6 +72,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User findById(Long id) {
         log.info("Call findById in UserServiceImpl with ID: {}", id);
 
@@ -53,22 +81,17 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
     public User save(User user, RoleType roleType) {
         log.info("Call save in UserServiceImpl with user: {}", user);
 
-        if (existsByUsernameAndEmail(user.getUsername(), user.getEmail())) {
-            throw new EntityExistsException(MessageFormat.format("User with username {0} and email {1} is exists", user.getUsername(), user.getEmail()));
-        }
-
-        if (userRepository.existsByUsername(user.getUsername())){
-            throw new EntityExistsException(MessageFormat.format("User with username {0} is exists", user.getUsername()));
-        }
-
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHasher.encode(user.getPassword()));
         user.setRoleType(Objects.requireNonNullElse(roleType, RoleType.ROLE_USER));
 
-        return userRepository.save(user);
+        try {
+            return transactionTemplate.execute(status -> userRepository.saveAndFlush(user));
+        } catch (DataIntegrityViolationException ex) {
+            throw new EntityExistsException(MessageFormat.format("User with username {0} or email {1} is exists", user.getUsername(), user.getEmail()));
+        }
     }
 
     @Override
@@ -82,6 +105,7 @@ public class UserServiceImpl implements UserService {
         if (user.getPassword()!=null) user.setPassword(passwordEncoder.encode(user.getPassword()));
 
         userMapper.updateRequestToUser(user, existUser);
+        userPrincipalCache.evict(username);
 
         return userRepository.save(existUser);
     }
@@ -91,11 +115,21 @@ public class UserServiceImpl implements UserService {
     public void deleteById(Long id) {
         log.info("Call deleteById in UserServiceImpl with ID: {}", id);
 
+        List<Long> eventIds = bookingRepository.findEventIdsByUserId(id);
+        eventIds.forEach(eventId -> {
+            seatReservationLedger.remove(eventId);
+            eventPageCache.evict(eventId);
+        });
+        eventRepository.releaseSeatsByUserId(id);
         bookingRepository.deleteByUserId(id);
+        waitlistService.deleteByUserId(id);
+        waitlistService.promoteAvailable(eventIds);
         userRepository.deleteById(id);
+        userPrincipalCache.evictById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByUsernameAndEmail(String username, String email) {
         log.info("Call existsByUsernameAndEmail in UserServiceImpl with username: {} and email: {}", username, email);
 
@@ -109,7 +143,16 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("User not found with username: {0}", username)));
 
+        List<Long> eventIds = bookingRepository.findEventIdsByUserId(user.getId());
+        eventIds.forEach(eventId -> {
+            seatReservationLedger.remove(eventId);
+            eventPageCache.evict(eventId);
+        });
+        eventRepository.releaseSeatsByUserId(user.getId());
         bookingRepository.deleteByUserId(user.getId());
+        waitlistService.deleteByUserId(user.getId());
+        waitlistService.promoteAvailable(eventIds);
         userRepository.deleteByUsername(username);
+        userPrincipalCache.evict(username);
     }
 }
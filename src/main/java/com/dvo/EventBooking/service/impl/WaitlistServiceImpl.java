@@ -0,0 +1,115 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Booking;
+import com.dvo.EventBooking.entity.WaitlistEntry;
+import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.metrics.BookingMetrics;
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.repository.WaitlistRepository;
+import com.dvo.EventBooking.service.WaitlistService;
+import com.dvo.EventBooking.web.model.response.WaitlistResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FIFO waitlist per event. Promotion relies on the caller holding the event
+ * row lock (a seat update or SELECT ... FOR UPDATE earlier in the same
+ * transaction), so two transactions never promote the same entries.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistServiceImpl implements WaitlistService {
+    private final WaitlistRepository waitlistRepository;
+    private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final BookingMetrics bookingMetrics;
+
+    @Override
+    @Transactional
+    public WaitlistResponse enqueue(Long userId, Long eventId) {
+        log.info("Call enqueue in WaitlistServiceImpl with user ID: {}, event ID: {}", userId, eventId);
+
+        WaitlistEntry entry = waitlistRepository.findByEventIdAndUserId(eventId, userId)
+                .orElseGet(() -> {
+                    if (!userRepository.existsById(userId)) {
+                        throw new EntityNotFoundException(MessageFormat.format("User not found with ID: {0}", userId));
+                    }
+
+                    waitlistRepository.insertIfAbsent(userId, eventId, LocalDate.now());
+                    return waitlistRepository.findByEventIdAndUserId(eventId, userId).orElseThrow();
+                });
+
+        return WaitlistResponse.builder()
+                .userId(userId)
+                .eventId(eventId)
+                .position(waitlistRepository.countByEventIdAndIdLessThanEqual(eventId, entry.getId()))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int promote(Long eventId, int seats) {
+        if (seats <= 0) {
+            return 0;
+        }
+
+        List<WaitlistEntry> entries = waitlistRepository.findAllByEventIdOrderById(eventId, Limit.of(seats));
+        if (entries.isEmpty() || eventRepository.reserveSeats(eventId, entries.size()) == 0) {
+            return 0;
+        }
+
+        bookingRepository.insertAll(entries.stream()
+                .map(entry -> Booking.builder()
+                        .user(entry.getUser())
+                        .event(entry.getEvent())
+                        .createDate(LocalDate.now())
+                        .build())
+                .toList());
+        waitlistRepository.deleteAllInBatch(entries);
+        bookingMetrics.accepted(entries.size());
+
+        log.info("Promoted {} waitlisted users for event ID: {}", entries.size(), eventId);
+
+        return entries.size();
+    }
+
+    /**
+     * Fills every free seat of the given events from their waitlists, for
+     * bulk paths that release seats of several events at once.
+     */
+    @Override
+    @Transactional
+    public int promoteAvailable(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        return eventRepository.findAvailableSeatsByIdIn(eventIds).stream()
+                .mapToInt(seats -> promote(seats.getId(), seats.getAvailableSeats()))
+                .sum();
+    }
+
+    @Override
+    @Transactional
+    public void deleteByUserId(Long userId) {
+        waitlistRepository.deleteByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByEventId(Long eventId) {
+        waitlistRepository.deleteByEventId(eventId);
+    }
+}
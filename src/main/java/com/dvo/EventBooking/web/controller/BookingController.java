@@ -2,12 +2,17 @@ package com.dvo.EventBooking.web.controller;
 
 import com.dvo.EventBooking.entity.Booking;
 import com.dvo.EventBooking.mapping.BookingMapper;
+import com.dvo.EventBooking.service.BookingIntakeService;
 import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.web.model.request.CursorPaginationRequest;
 import com.dvo.EventBooking.web.model.request.PaginationRequest;
 import com.dvo.EventBooking.web.model.request.UpdateBookingRequest;
 import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingBatchItemResponse;
+import com.dvo.EventBooking.web.model.response.BookingRequestResponse;
 import com.dvo.EventBooking.web.model.response.BookingResponse;
 import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import com.dvo.EventBooking.web.model.response.CursorListResponse;
 import com.dvo.EventBooking.web.model.response.ModelListResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +21,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/bookings")
@@ -23,35 +33,74 @@ import org.springframework.web.bind.annotation.*;
 public class BookingController {
     private final BookingService bookingService;
     private final BookingMapper bookingMapper;
+    private final BookingIntakeService bookingIntakeService;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
     public ResponseEntity<ModelListResponse<BookingShortResponse>> findAll(@Valid PaginationRequest paginationRequest){
-        Page<Booking> bookingPage = bookingService.findAll(paginationRequest.pageRequest());
+        Page<BookingShortResponse> bookingPage = bookingService.findAllShort(paginationRequest.pageRequest());
 
         return ResponseEntity.ok(ModelListResponse.<BookingShortResponse>builder()
                 .totalCount((long) bookingPage.getTotalElements())
-                .data(bookingPage.stream().map(bookingMapper::bookingToShortResponse).toList())
+                .data(bookingPage.getContent())
                 .build());
     }
 
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
+    public ResponseEntity<CursorListResponse<BookingShortResponse>> findAllByCursor(@Valid CursorPaginationRequest paginationRequest){
+        List<BookingShortResponse> bookings = bookingService.findAllShortAfter(paginationRequest.afterId(), paginationRequest.limit());
+
+        return ResponseEntity.ok(CursorListResponse.of(bookings, paginationRequest.getPageSize(), BookingShortResponse::getId, Function.identity()));
+    }
+
     @GetMapping("/id/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
-    public ResponseEntity<BookingResponse> findById(@PathVariable Long id){
-        return ResponseEntity.ok(bookingMapper.bookingToResponse(bookingService.findById(id)));
+    public ResponseEntity<BookingResponse> findById(@PathVariable Long id, WebRequest webRequest){
+        Booking booking = bookingService.findById(id);
+        String eTag = booking.getVersion() + "." + booking.getUser().getVersion() + "." + booking.getEvent().getVersion() + "." + booking.getEvent().getBookingsVersion();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(bookingMapper.bookingToResponse(booking));
     }
 
     @PostMapping("/create")
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
-    public ResponseEntity<BookingResponse> create(@Valid @RequestBody UpsertBookingRequest request){
+    public ResponseEntity<?> create(@Valid @RequestBody UpsertBookingRequest request){
+        if (bookingIntakeService.isEnabled()) {
+            return ResponseEntity.accepted().body(bookingIntakeService.submit(request));
+        }
+
         Booking newBooking = bookingService.save(request);
 
         return ResponseEntity.ok(bookingMapper.bookingToResponse(newBooking));
     }
 
+    @GetMapping("/requests/{requestId}")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
+    public ResponseEntity<BookingRequestResponse> findRequestById(@PathVariable UUID requestId){
+        return ResponseEntity.ok(bookingIntakeService.findByRequestId(requestId));
+    }
+
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
+    public ResponseEntity<ModelListResponse<BookingBatchItemResponse>> createBatch(@RequestBody List<UpsertBookingRequest> requests){
+        List<BookingBatchItemResponse> results = bookingService.saveAll(requests);
+
+        return ResponseEntity.ok(ModelListResponse.<BookingBatchItemResponse>builder()
+                .totalCount((long) results.size())
+                .data(results)
+                .build());
+    }
+
     @PutMapping("/update/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
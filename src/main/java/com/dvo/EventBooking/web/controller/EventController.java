@@ -1,21 +1,35 @@
 package com.dvo.EventBooking.web.controller;
 
 import com.dvo.EventBooking.entity.Event;
-import com.dvo.EventBooking.mapping.BookingMapper;
 import com.dvo.EventBooking.mapping.EventMapper;
+import com.dvo.EventBooking.service.BookingExportService;
 import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.service.EventImportListener;
+import com.dvo.EventBooking.service.EventImportService;
 import com.dvo.EventBooking.service.EventService;
 import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.request.BookingExportFormat;
+import com.dvo.EventBooking.web.model.request.CursorPaginationRequest;
+import com.dvo.EventBooking.web.model.request.EventImportFormat;
 import com.dvo.EventBooking.web.model.request.UpdateEventRequest;
 import com.dvo.EventBooking.web.model.request.UpsertEventRequest;
 import com.dvo.EventBooking.web.model.response.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -25,37 +39,60 @@ public class EventController {
     private final EventService eventService;
     private final EventMapper eventMapper;
     private final BookingService bookingService;
-    private final BookingMapper bookingMapper;
+    private final EventImportService eventImportService;
+    private final BookingExportService bookingExportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
     public ResponseEntity<ModelListResponse<EventShortResponse>> findAll(@Valid EventFilter filter) {
-        List<Event> eventList = eventService.findAllByFilter(filter);
+        List<EventShortResponse> eventList = eventService.findAllShortByFilter(filter);
 
         ModelListResponse<EventShortResponse> response = ModelListResponse.<EventShortResponse>builder()
                 .totalCount((long) eventList.size())
-                .data(eventList.stream().map(event -> {
-                    EventShortResponse eventShortResponse = eventMapper.eventToShortResponse(event);
-                    eventShortResponse.setAvailableAttendees(eventShortResponse.getMaxAttendees() - bookingService.countByEventId(event.getId()));
-
-                    return eventShortResponse;
-                }).toList())
+                .data(eventList)
                 .build();
 
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
+    public ResponseEntity<CursorListResponse<EventShortResponse>> findAllByCursor(@Valid CursorPaginationRequest paginationRequest, EventFilter filter) {
+        List<Event> eventList = eventService.findAllByFilterAfter(filter, paginationRequest.afterId(), paginationRequest.limit());
+
+        return ResponseEntity.ok(CursorListResponse.of(eventList, paginationRequest.getPageSize(), Event::getId, eventMapper::eventToShortResponse));
+    }
+
     @GetMapping("/id/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_USER')")
-    public ResponseEntity<EventResponse> findById(@PathVariable Long id) {
-        List<BookingShortResponse> bookings = bookingService.findAllByEventId(id).stream().map(bookingMapper::bookingToShortResponse).toList();
-        EventResponse response = eventMapper.eventToResponse(eventService.findById(id), bookings);
+    public ResponseEntity<EventResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        Event event = eventService.findById(id);
+        String eTag = event.getVersion() + "." + event.getBookingsVersion();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
-        //response.setAvailableAttendees(response.getMaxAttendees() - bookingService.countByEventId(id));
+        EventResponse response = eventMapper.eventToResponse(event, bookingService.findAllShortByEventId(id));
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @GetMapping(value = "/id/{id}/bookings/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public void exportBookings(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        BookingExportFormat format = accept != null && accept.contains("text/csv")
+                ? BookingExportFormat.CSV
+                : BookingExportFormat.NDJSON;
+
+        response.setContentType(format == BookingExportFormat.CSV ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        bookingExportService.exportByEventId(id, format, response.getWriter());
     }
 
     @PostMapping("/create")
@@ -63,13 +100,40 @@ public class EventController {
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     public ResponseEntity<EventResponse> create(@Valid @RequestBody UpsertEventRequest request) {
         Event event = eventService.save(eventMapper.requestToEvent(request));
-        List<BookingShortResponse> bookings = bookingService.findAllByEventId(event.getId()).stream().map(bookingMapper::bookingToShortResponse).toList();
-        EventResponse response = eventMapper.eventToResponse(event, bookings);
-        //response.setAvailableAttendees(event.getMaxAttendees() - bookingService.countByEventId(event.getId()));
+        EventResponse response = eventMapper.eventToResponse(event, List.of());
 
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public void importEvents(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        EventImportFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? EventImportFormat.NDJSON
+                : EventImportFormat.CSV;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+
+        EventImportProgressResponse result = eventImportService.importEvents(request.getReader(), format, new EventImportListener() {
+            @Override
+            public void onError(EventImportErrorResponse error) throws IOException {
+                writer.println(objectMapper.writeValueAsString(error));
+                writer.flush();
+            }
+
+            @Override
+            public void onProgress(EventImportProgressResponse progress) throws IOException {
+                writer.println(objectMapper.writeValueAsString(progress));
+                writer.flush();
+            }
+        });
+        writer.println(objectMapper.writeValueAsString(result));
+        writer.flush();
+    }
+
     @PutMapping("/update/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
@@ -77,9 +141,7 @@ public class EventController {
                                                 @PathVariable Long id) {
 
         Event updatedEvent = eventService.update(request, id);
-        List<BookingShortResponse> bookings = bookingService.findAllByEventId(updatedEvent.getId()).stream().map(bookingMapper::bookingToShortResponse).toList();
-        EventResponse response = eventMapper.eventToResponse(updatedEvent, bookings);
-        //response.setAvailableAttendees(updatedEvent.getMaxAttendees() - bookingService.countByEventId(updatedEvent.getId()));
+        EventResponse response = eventMapper.eventToResponse(updatedEvent, bookingService.findAllShortByEventId(updatedEvent.getId()));
 
         return ResponseEntity.ok(response);
     }
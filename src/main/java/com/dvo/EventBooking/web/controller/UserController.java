@@ -4,9 +4,11 @@ import com.dvo.EventBooking.entity.RoleType;
 import com.dvo.EventBooking.entity.User;
 import com.dvo.EventBooking.mapping.UserMapper;
 import com.dvo.EventBooking.service.UserService;
+import com.dvo.EventBooking.web.model.request.CursorPaginationRequest;
 import com.dvo.EventBooking.web.model.request.PaginationRequest;
 import com.dvo.EventBooking.web.model.request.UpdateUserRequest;
 import com.dvo.EventBooking.web.model.request.UpsertUserRequest;
+import com.dvo.EventBooking.web.model.response.CursorListResponse;
 import com.dvo.EventBooking.web.model.response.ModelListResponse;
 import com.dvo.EventBooking.web.model.response.UserResponse;
 import jakarta.validation.Valid;
@@ -18,6 +20,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -38,6 +42,15 @@ public class UserController {
                 .build());
     }
 
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<CursorListResponse<UserResponse>> getAllByCursor(@Valid CursorPaginationRequest request) {
+        List<User> users = userService.findAllAfter(request.afterId(), request.limit());
+
+        return ResponseEntity.ok(CursorListResponse.of(users, request.getPageSize(), User::getId, userMapper::userToResponse));
+    }
+
     @GetMapping("/id/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
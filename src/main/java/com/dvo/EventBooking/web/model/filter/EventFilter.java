@@ -1,6 +1,7 @@
 package com.dvo.EventBooking.web.model.filter;
 
 import com.dvo.EventBooking.validation.EventFilterValid;
+import jakarta.validation.constraints.Max;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -11,12 +12,17 @@ import java.time.LocalDate;
 @EventFilterValid
 public class EventFilter {
     private Integer pageNumber;
+    @Max(value = 1000, message = "pageSize не может быть больше {value}")
     private Integer pageSize;
 
     private LocalDate date;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
     private String name;
     private String description;
     private String city;
     private String address;
     private Integer maxAttendees;
+
+    private EventSort sort;
 }
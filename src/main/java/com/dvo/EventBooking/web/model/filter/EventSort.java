@@ -0,0 +1,16 @@
+package com.dvo.EventBooking.web.model.filter;
+
+import com.dvo.EventBooking.entity.Event;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+@Getter
+@RequiredArgsConstructor
+public enum EventSort {
+    ID(Sort.by(Event.Fields.id)),
+    DATE(Sort.by(Event.Fields.date, Event.Fields.id)),
+    DATE_DESC(Sort.by(Sort.Direction.DESC, Event.Fields.date, Event.Fields.id));
+
+    private final Sort sort;
+}
@@ -1,11 +1,17 @@
 package com.dvo.EventBooking.web.model.handler;
 
+import com.dvo.EventBooking.exception.BookingIntakeUnavailableException;
+import com.dvo.EventBooking.exception.BookingQueueFullException;
 import com.dvo.EventBooking.exception.EntityExistsException;
 import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.exception.WaitlistedException;
 import com.dvo.EventBooking.web.model.response.ErrorResponse;
+import com.dvo.EventBooking.web.model.response.WaitlistResponse;
 import jakarta.validation.UnexpectedTypeException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -15,6 +21,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -34,6 +41,44 @@ public class ExceptionControllerHandler {
                 .body(new ErrorResponse(ex.getMessage()));
     }
 
+    @ExceptionHandler(WaitlistedException.class)
+    public ResponseEntity<WaitlistResponse> handleWaitlisted(WaitlistedException ex) {
+        log.info("Бронирование добавлено в лист ожидания: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ex.getWaitlist());
+    }
+
+    @ExceptionHandler(BookingQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleQueueFull(BookingQueueFullException ex) {
+        log.warn("Очередь бронирований переполнена: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(BookingIntakeUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleIntakeUnavailable(BookingIntakeUnavailableException ex) {
+        log.warn("Приём бронирований недоступен: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        log.warn("Очередь задач переполнена: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("Сервис перегружен, повторите запрос позже"));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLocking(OptimisticLockingFailureException ex) {
+        log.warn("Конфликт версий: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> notValid(MethodArgumentNotValidException ex) {
         BindingResult bindingResult = ex.getBindingResult();
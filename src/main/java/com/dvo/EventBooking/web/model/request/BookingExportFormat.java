@@ -0,0 +1,5 @@
+package com.dvo.EventBooking.web.model.request;
+
+public enum BookingExportFormat {
+    NDJSON, CSV
+}
@@ -0,0 +1,43 @@
+package com.dvo.EventBooking.web.model.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPaginationRequest {
+    @Min(value = 1, message = "pageSize должно быть больше 0")
+    @Max(value = 1000, message = "pageSize не может быть больше {value}")
+    @NotNull(message = "pageSize должно быть указано")
+    private Integer pageSize;
+
+    private String cursor;
+
+    public Long afterId() {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public int limit() {
+        return pageSize + 1;
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
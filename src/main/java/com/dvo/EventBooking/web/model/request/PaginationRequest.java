@@ -1,5 +1,6 @@
 package com.dvo.EventBooking.web.model.request;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 @NoArgsConstructor
 public class PaginationRequest {
     @Min(value = 1, message = "pageSize должно быть больше 0")
+    @Max(value = 1000, message = "pageSize не может быть больше {value}")
     @NotNull(message = "pageSize должно быть указано")
     private Integer pageSize;
 
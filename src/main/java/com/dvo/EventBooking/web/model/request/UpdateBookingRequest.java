@@ -13,4 +13,6 @@ public class UpdateBookingRequest {
     private Long userId;
 
     private Long eventId;
+
+    private Long version;
 }
@@ -18,4 +18,5 @@ public class UpdateEventRequest {
     private String address;
     private LocalDate date;
     private Integer maxAttendees;
+    private Long version;
 }
@@ -0,0 +1,20 @@
+package com.dvo.EventBooking.web.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingBatchItemResponse {
+    private int index;
+    private Long userId;
+    private Long eventId;
+    private Long bookingId;
+    private boolean created;
+    private String error;
+    private Long waitlistPosition;
+}
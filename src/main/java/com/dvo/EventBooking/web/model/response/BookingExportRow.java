@@ -0,0 +1,22 @@
+package com.dvo.EventBooking.web.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingExportRow {
+    private Long bookingId;
+    private LocalDate createDate;
+    private Long userId;
+    private String username;
+    private String email;
+    private String firstName;
+    private String lastName;
+}
@@ -0,0 +1,22 @@
+package com.dvo.EventBooking.web.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingRequestResponse {
+    private UUID requestId;
+    private BookingRequestStatus status;
+    private Long userId;
+    private Long eventId;
+    private Long bookingId;
+    private String error;
+    private Long waitlistPosition;
+}
@@ -0,0 +1,5 @@
+package com.dvo.EventBooking.web.model.response;
+
+public enum BookingRequestStatus {
+    PENDING, CREATED, WAITLISTED, REJECTED
+}
@@ -18,4 +18,5 @@ public class BookingResponse {
     private UserResponse user;
     private EventShortResponse event;
     private LocalDate createDate;
+    private long version;
 }
@@ -0,0 +1,31 @@
+package com.dvo.EventBooking.web.model.response;
+
+import com.dvo.EventBooking.web.model.request.CursorPaginationRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorListResponse<T> {
+    private List<T> data;
+    private String nextCursor;
+
+    public static <S, T> CursorListResponse<T> of(List<S> items, int pageSize, Function<S, Long> idExtractor, Function<S, T> mapper) {
+        if (items.size() <= pageSize) {
+            return new CursorListResponse<>(items.stream().map(mapper).toList(), null);
+        }
+
+        List<S> page = items.subList(0, pageSize);
+        return new CursorListResponse<>(
+                page.stream().map(mapper).toList(),
+                CursorPaginationRequest.encode(idExtractor.apply(page.get(pageSize - 1)))
+        );
+    }
+}
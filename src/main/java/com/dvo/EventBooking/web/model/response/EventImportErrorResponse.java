@@ -0,0 +1,15 @@
+package com.dvo.EventBooking.web.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EventImportErrorResponse {
+    private long line;
+    private String error;
+}
@@ -0,0 +1,17 @@
+package com.dvo.EventBooking.web.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EventImportProgressResponse {
+    private long processed;
+    private long imported;
+    private long failed;
+    private boolean completed;
+}
@@ -21,5 +21,6 @@ public class EventResponse {
     private LocalDate date;
     private int maxAttendees;
     private int availableAttendees;
+    private long version;
     private List<BookingShortResponse> bookings;
 }
@@ -0,0 +1,32 @@
+-- Converts the plain bookings table created by schema generation into one
+-- range-partitioned by event_date, with a default partition holding every
+-- row. Run once, in a single transaction, before enabling
+-- app.booking.partitioning; monthly partitions are then carved out of the
+-- default one by the application. See README.
+
+-- Fails with division by zero when bookings is already partitioned.
+select 1 / (1 - count(*)) from pg_partitioned_table where partrelid = to_regclass('bookings');
+
+update bookings b set event_date = (select e.date from events e where e.id = b.event_id) where b.event_date is null;
+
+lock table bookings in access exclusive mode;
+
+alter table bookings rename to bookings_unpartitioned;
+alter index if exists bookings_pkey rename to bookings_unpartitioned_pkey;
+alter index if exists idx_bookings_event_id rename to idx_bookings_unpartitioned_event_id;
+alter index if exists idx_bookings_user_id rename to idx_bookings_unpartitioned_user_id;
+
+create table bookings (like bookings_unpartitioned including defaults) partition by range (event_date);
+create sequence bookings_partitioned_id_seq owned by bookings.id;
+select setval('bookings_partitioned_id_seq', (select coalesce(max(id), 0) + 1 from bookings_unpartitioned), false);
+alter table bookings alter column id set default nextval('bookings_partitioned_id_seq');
+alter table bookings alter column event_date set not null;
+alter table bookings add primary key (id, event_date);
+alter table bookings add foreign key (user_id) references users (id);
+alter table bookings add foreign key (event_id) references events (id);
+create index idx_bookings_event_id on bookings (event_id);
+create index idx_bookings_user_id on bookings (user_id);
+create table bookings_default partition of bookings default;
+
+insert into bookings select * from bookings_unpartitioned;
+drop table bookings_unpartitioned;
@@ -0,0 +1,37 @@
+package com.dvo.EventBooking.configuration;
+
+import com.dvo.EventBooking.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BookedAttendeesInitializerTest {
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+    }
+
+    @Test
+    void testRun_recountsAllEvents() {
+        new BookedAttendeesInitializer(eventRepository, true, Period.ZERO).run(null);
+
+        verify(eventRepository).recountBookedAttendees();
+        verify(eventRepository, never()).recountBookedAttendeesFrom(any());
+    }
+
+    @Test
+    void testRun_skipsEventsWithArchivedBookings() {
+        new BookedAttendeesInitializer(eventRepository, true, Period.ofMonths(12)).run(null);
+
+        verify(eventRepository).recountBookedAttendeesFrom(YearMonth.from(LocalDate.now().minusMonths(12)).atDay(1));
+        verify(eventRepository, never()).recountBookedAttendees();
+    }
+}
@@ -0,0 +1,37 @@
+package com.dvo.EventBooking.configuration;
+
+import com.dvo.EventBooking.datasource.ConcurrencyLimitingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+public class DatabaseConcurrencyConfigurationTest {
+
+    @Test
+    void testDatabaseConcurrencyMetrics_bindsGaugesPerPool() {
+        DataSource primary = new ConcurrencyLimitingDataSource("primary", mock(DataSource.class), 10, Duration.ofSeconds(1));
+        DataSource replica = new ConcurrencyLimitingDataSource("replica", mock(DataSource.class), 4, Duration.ofSeconds(1));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("primaryDataSource", primary);
+        beanFactory.addBean("replicaDataSource", replica);
+        beanFactory.addBean("dataSource", new LazyConnectionDataSourceProxy(primary));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new DatabaseConcurrencyConfiguration()
+                .databaseConcurrencyMetrics(beanFactory.getBeanProvider(DataSource.class))
+                .bindTo(registry);
+
+        assertEquals(10, registry.get("db.concurrency.available").tag("pool", "primary").gauge().value());
+        assertEquals(4, registry.get("db.concurrency.available").tag("pool", "replica").gauge().value());
+        assertEquals(0, registry.get("db.concurrency.waiting").tag("pool", "replica").gauge().value());
+        assertNull(registry.find("db.concurrency.available").tag("pool", "dataSource").gauge());
+    }
+}
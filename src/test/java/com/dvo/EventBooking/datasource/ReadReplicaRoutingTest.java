@@ -0,0 +1,91 @@
+package com.dvo.EventBooking.datasource;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.service.EventService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Primary and replica are two separate H2 databases. The replica gets a
+ * copy of the generated schema but never any rows, so what a read returns
+ * shows where it was routed.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:dvo_replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS event_booking_schema",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password="
+})
+@ActiveProfiles("test")
+public class ReadReplicaRoutingTest {
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+        @Bean
+        public InitializingBean replicaSchema(EntityManagerFactory entityManagerFactory,
+                                              @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                              @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+            JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+
+            return () -> new JdbcTemplate(primaryDataSource).queryForList("script nodata", String.class)
+                    .forEach(replica::execute);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testReadOnlyCall_readsFromReplica() {
+        eventService.save(event());
+
+        assertTrue(eventService.findAll().isEmpty());
+        assertEquals(0, new JdbcTemplate(replicaDataSource).queryForObject("select count(*) from events", Integer.class));
+    }
+
+    @Test
+    void testReadOnlyCall_afterWriteInSameRequest_readsFromPrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        Event saved = eventService.save(event());
+
+        assertTrue(eventService.findAll().stream().anyMatch(event -> event.getId().equals(saved.getId())));
+    }
+
+    private static Event event() {
+        return Event.builder()
+                .name("name")
+                .description("description")
+                .city("city")
+                .address("address")
+                .date(LocalDate.now())
+                .maxAttendees(10)
+                .build();
+    }
+}
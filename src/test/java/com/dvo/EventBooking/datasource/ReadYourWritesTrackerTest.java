@@ -0,0 +1,100 @@
+package com.dvo.EventBooking.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReadYourWritesTrackerTest {
+    private ReadYourWritesTracker readYourWritesTracker;
+    private TransactionExecution write;
+    private TransactionExecution read;
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        write = mock(TransactionExecution.class);
+        read = mock(TransactionExecution.class);
+        when(read.isReadOnly()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testMustReadFromPrimary_afterWriteInSameRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertFalse(readYourWritesTracker.mustReadFromPrimary());
+
+        readYourWritesTracker.afterCommit(write, null);
+        assertTrue(readYourWritesTracker.mustReadFromPrimary());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertFalse(readYourWritesTracker.mustReadFromPrimary());
+    }
+
+    @Test
+    void testMustReadFromPrimary_forSameUserWithinWindow() {
+        authenticate("user");
+        readYourWritesTracker.afterCommit(write, null);
+
+        assertTrue(readYourWritesTracker.mustReadFromPrimary());
+
+        authenticate("other");
+        assertFalse(readYourWritesTracker.mustReadFromPrimary());
+    }
+
+    @Test
+    void testMustReadFromPrimary_ignoresReadOnlyAndFailedCommits() {
+        authenticate("user");
+        readYourWritesTracker.afterCommit(read, null);
+        readYourWritesTracker.afterCommit(write, new IllegalStateException());
+
+        assertFalse(readYourWritesTracker.mustReadFromPrimary());
+    }
+
+    @Test
+    void testRoutingDataSource_routesReadOnlyToReplicaUntilWrite() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        Connection primaryConnection = mock(Connection.class);
+        Connection replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary, replica, readYourWritesTracker);
+        authenticate("user");
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replicaConnection, dataSource.getConnection());
+
+        readYourWritesTracker.afterCommit(write, null);
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,136 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Booking;
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.service.BookingPartitionService;
+import com.dvo.EventBooking.service.impl.BookingPartitionServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the partitioning migration and the maintenance DDL against a real
+ * PostgreSQL; skipped when Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "app.booking.partitioning.enabled=true",
+        "app.booking.partitioning.months-ahead=1",
+        "spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public class BookingPartitioningTest {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingPartitionService bookingPartitionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testMigrationAndMaintenance() {
+        YearMonth current = YearMonth.now();
+        YearMonth past = current.minusMonths(2);
+        User user = userRepository.save(User.builder()
+                .username("partition")
+                .password("password")
+                .email("partition@mail.ru")
+                .roleType(RoleType.ROLE_USER)
+                .build());
+        Event pastEvent = eventRepository.save(event(past.atDay(10)));
+        Event upcomingEvent = eventRepository.save(event(LocalDate.now()));
+        bookingRepository.save(booking(user, pastEvent));
+        bookingRepository.save(booking(user, upcomingEvent));
+
+        bookingPartitionService.maintain();
+        assertFalse(bookingRepository.isPartitioned());
+
+        ResourceDatabasePopulator migration = new ResourceDatabasePopulator(new ClassPathResource("db/booking-partitioning.sql"));
+        migration.execute(dataSource);
+        assertTrue(bookingRepository.isPartitioned());
+        assertThrows(ScriptException.class, () -> migration.execute(dataSource));
+
+        bookingPartitionService.maintain();
+        bookingPartitionService.maintain();
+
+        assertEquals(List.of("bookings_default", partition(past), partition(past.plusMonths(1)), partition(current), partition(current.plusMonths(1))),
+                bookingRepository.findPartitionNames());
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from bookings_default", Integer.class));
+        assertEquals(1, bookingRepository.countByEventId(pastEvent.getId()));
+
+        bookingRepository.save(booking(user, upcomingEvent));
+        assertEquals(2, bookingRepository.countByEventId(upcomingEvent.getId()));
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from " + partition(current), Integer.class));
+
+        String archiveName = "bookings_archive_" + past.format(SUFFIX);
+        jdbcTemplate.execute("create table " + archiveName + " (id bigint)");
+        new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 1, Period.ofMonths(1)).maintain();
+
+        assertFalse(bookingRepository.findPartitionNames().contains(partition(past)));
+        assertTrue(bookingRepository.tableExists(archiveName + "_2"));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from " + archiveName + "_2", Integer.class));
+        assertEquals(0, bookingRepository.countByEventId(pastEvent.getId()));
+    }
+
+    private static Event event(LocalDate date) {
+        return Event.builder()
+                .name("name")
+                .description("description")
+                .city("city")
+                .address("address")
+                .date(date)
+                .maxAttendees(10)
+                .build();
+    }
+
+    private static Booking booking(User user, Event event) {
+        return Booking.builder()
+                .user(user)
+                .event(event)
+                .createDate(LocalDate.now())
+                .build();
+    }
+
+    private static String partition(YearMonth month) {
+        return "bookings_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,163 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.filter.EventSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Explains the statements the repositories actually send, captured at the
+ * JDBC level, and checks that the plan names the declared index rather than
+ * just avoiding a table scan: H2 would otherwise index foreign keys on its own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class IndexUsageTest {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class StatementRecordingConfig {
+        @Bean
+        public static BeanPostProcessor statementRecordingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new StatementRecordingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    void testCountByEventId_usesIndex() {
+        bookingRepository.countByEventId(1L);
+
+        String plan = explain(recorded("bookings", "select count("), 1L);
+
+        assertTrue(plan.contains("idx_bookings_event_id"), plan);
+    }
+
+    @Test
+    void testFindAllShortByEventId_usesIndex() {
+        bookingRepository.findAllShortByEventId(1L);
+
+        String plan = explain(recorded("bookings", "order by"), 1L);
+
+        assertTrue(plan.contains("idx_bookings_event_id"), plan);
+    }
+
+    @Test
+    void testDeleteByUserId_usesIndex() {
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingRepository.deleteByUserId(1L);
+            status.setRollbackOnly();
+        });
+
+        String plan = explain(recorded("bookings", "delete from bookings"), 1L);
+
+        assertTrue(plan.contains("idx_bookings_user_id"), plan);
+    }
+
+    @Test
+    void testFindEventsByDateRange_usesIndex() {
+        EventFilter filter = new EventFilter();
+        filter.setPageNumber(0);
+        filter.setPageSize(10);
+        filter.setDateFrom(LocalDate.now());
+        filter.setDateTo(LocalDate.now().plusDays(7));
+        filter.setSort(EventSort.DATE);
+
+        eventService.findAllByFilter(filter);
+
+        String plan = explain(recorded("events", "order by"),
+                Date.valueOf(filter.getDateFrom()), Date.valueOf(filter.getDateTo()), filter.getPageSize());
+
+        assertTrue(plan.contains("idx_events_date_city"), plan);
+    }
+
+    private static String recorded(String table, String fragment) {
+        return STATEMENTS.stream()
+                .map(sql -> sql.replaceFirst("(?s)^\\s*/\\*.*?\\*/\\s*", ""))
+                .filter(sql -> sql.toLowerCase().contains(table) && sql.toLowerCase().contains(fragment))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No " + table + " statement with '" + fragment + "' in " + STATEMENTS));
+    }
+
+    /**
+     * Binds the parameters in order; the last one also fills any remaining
+     * placeholders.
+     */
+    private String explain(String sql, Object... parameters) {
+        Object[] args = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = parameters[Math.min(i, parameters.length - 1)];
+        }
+
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+    }
+
+    private static class StatementRecordingDataSource extends DelegatingDataSource {
+        StatementRecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+
+            return (Connection) Proxy.newProxyInstance(
+                    IndexUsageTest.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                            STATEMENTS.add(sql);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getTargetException();
+                        }
+                    }
+            );
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+@ActiveProfiles("test")
+public class SecondLevelCacheTest {
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private Event event;
+    private Event otherEvent;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = userRepository.save(User.builder()
+                .username("user")
+                .password("password")
+                .email("user@ya.ru")
+                .roleType(RoleType.ROLE_USER)
+                .build());
+        event = eventRepository.save(event("event"));
+        otherEvent = eventRepository.save(event("other"));
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testFindById_servedFromCache() {
+        eventService.findById(event.getId());
+        eventService.findById(event.getId());
+
+        CacheRegionStatistics events = statistics.getDomainDataRegionStatistics("events");
+        assertEquals(1, events.getMissCount());
+        assertEquals(1, events.getHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testBooking_evictsOnlyBookedEvent() {
+        eventService.findById(event.getId());
+        eventService.findById(otherEvent.getId());
+
+        bookingService.save(new UpsertBookingRequest(user.getId(), event.getId()));
+        statistics.clear();
+
+        assertEquals(1, eventService.findById(event.getId()).getBookedAttendees());
+        assertEquals(0, eventService.findById(otherEvent.getId()).getBookedAttendees());
+
+        CacheRegionStatistics events = statistics.getDomainDataRegionStatistics("events");
+        assertEquals(1, events.getMissCount());
+        assertEquals(1, events.getHitCount());
+    }
+
+    private Event event(String name) {
+        return Event.builder()
+                .name(name)
+                .description("description")
+                .city("city")
+                .address("address")
+                .date(LocalDate.now().plusDays(1))
+                .maxAttendees(10)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.dvo.EventBooking.repository;
+
+import com.dvo.EventBooking.entity.Booking;
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SoftDeletedEventBookingsTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Event event;
+    private Event deletedEvent;
+    private Booking booking;
+    private Booking hiddenBooking;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .username("purge")
+                .password("password")
+                .email("purge@ya.ru")
+                .roleType(RoleType.ROLE_USER)
+                .build());
+        event = eventRepository.save(event("event"));
+        deletedEvent = eventRepository.save(event("deleted"));
+        booking = bookingRepository.save(booking(user, event));
+        hiddenBooking = bookingRepository.save(booking(user, deletedEvent));
+
+        transactionTemplate.executeWithoutResult(status -> eventRepository.markDeleted(deletedEvent.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        transactionTemplate.executeWithoutResult(status -> eventRepository.deletePurged(deletedEvent.getId()));
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testListings_skipBookingsOfDeletedEvent() {
+        assertEquals(List.of(booking.getId()), bookingRepository.findAllActive(PageRequest.of(0, 10)).map(Booking::getId).getContent());
+        assertEquals(1, bookingRepository.findAllShort(PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(List.of(booking.getId()), bookingRepository.findAllShortAfter(0L, Limit.of(10)).stream().map(BookingShortResponse::getId).toList());
+    }
+
+    @Test
+    void testFindById_skipsBookingOfDeletedEvent() {
+        assertTrue(bookingRepository.findWithUserAndEventById(booking.getId()).isPresent());
+        assertTrue(bookingRepository.findWithUserAndEventById(hiddenBooking.getId()).isEmpty());
+        assertTrue(bookingRepository.findActiveById(hiddenBooking.getId()).isEmpty());
+    }
+
+    @Test
+    void testPerEventQueries_skipDeletedEvent() {
+        assertEquals(0, bookingRepository.countByEventId(deletedEvent.getId()));
+        assertTrue(bookingRepository.findAllShortByEventId(deletedEvent.getId()).isEmpty());
+        assertEquals(1, bookingRepository.countByEventId(event.getId()));
+    }
+
+    private static Event event(String name) {
+        return Event.builder()
+                .name(name)
+                .description("description")
+                .city("city")
+                .address("address")
+                .date(LocalDate.now())
+                .maxAttendees(10)
+                .build();
+    }
+
+    private static Booking booking(User user, Event event) {
+        return Booking.builder()
+                .user(user)
+                .event(event)
+                .createDate(LocalDate.now())
+                .build();
+    }
+}
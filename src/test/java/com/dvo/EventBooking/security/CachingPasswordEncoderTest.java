@@ -0,0 +1,64 @@
+package com.dvo.EventBooking.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CachingPasswordEncoderTest {
+    private PasswordEncoder delegate;
+    private CachingPasswordEncoder passwordEncoder;
+    private String encoded;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new BCryptPasswordEncoder(4));
+        passwordEncoder = new CachingPasswordEncoder(delegate, Duration.ofMinutes(5), 100);
+        encoded = passwordEncoder.encode("secret");
+    }
+
+    @Test
+    void testMatches_verifiesOnceThenUsesCache() {
+        assertTrue(passwordEncoder.matches("secret", encoded));
+        assertTrue(passwordEncoder.matches("secret", encoded));
+        assertTrue(passwordEncoder.matches("secret", encoded));
+
+        verify(delegate, times(1)).matches("secret", encoded);
+        assertEquals(2, passwordEncoder.stats().hitCount());
+    }
+
+    @Test
+    void testMatches_wrongPasswordIsNeverCached() {
+        assertTrue(passwordEncoder.matches("secret", encoded));
+
+        assertFalse(passwordEncoder.matches("wrong", encoded));
+        assertFalse(passwordEncoder.matches("wrong", encoded));
+
+        verify(delegate, times(2)).matches("wrong", encoded);
+    }
+
+    @Test
+    void testMatches_changedHashIsVerifiedAgain() {
+        assertTrue(passwordEncoder.matches("secret", encoded));
+
+        String changed = passwordEncoder.encode("secret");
+        assertTrue(passwordEncoder.matches("secret", changed));
+
+        verify(delegate).matches("secret", changed);
+    }
+
+    @Test
+    void testMatches_expiredEntryIsVerifiedAgain() {
+        passwordEncoder = new CachingPasswordEncoder(delegate, Duration.ZERO, 100);
+
+        assertTrue(passwordEncoder.matches("secret", encoded));
+        assertTrue(passwordEncoder.matches("secret", encoded));
+
+        verify(delegate, times(2)).matches("secret", encoded);
+    }
+}
@@ -0,0 +1,87 @@
+package com.dvo.EventBooking.security;
+
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserPrincipalCacheTest {
+    private UserPrincipalCache userPrincipalCache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private RoleType roleType;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCache = new UserPrincipalCache(Duration.ofMinutes(5), 100);
+        roleType = RoleType.ROLE_USER;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGet_loadsOnce() {
+        userPrincipalCache.get("user", loader());
+        userPrincipalCache.get("user", loader());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, userPrincipalCache.stats().hitCount());
+        assertEquals(1, userPrincipalCache.stats().missCount());
+    }
+
+    @Test
+    void testEvict_roleChangeVisibleOnNextLoad() {
+        userPrincipalCache.get("user", loader());
+
+        roleType = RoleType.ROLE_ADMIN;
+        userPrincipalCache.evict("user");
+
+        AppUserPrincipal principal = userPrincipalCache.get("user", loader());
+        assertEquals(RoleType.ROLE_ADMIN.name(), principal.getAuthorities().iterator().next().getAuthority());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictById() {
+        userPrincipalCache.get("user", loader());
+
+        userPrincipalCache.evictById(1L);
+        userPrincipalCache.get("user", loader());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvict_repeatedAfterTransactionCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        userPrincipalCache.get("user", loader());
+
+        userPrincipalCache.evict("user");
+        userPrincipalCache.get("user", loader());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        userPrincipalCache.get("user", loader());
+
+        assertEquals(3, loads.get());
+    }
+
+    private Supplier<AppUserPrincipal> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new AppUserPrincipal(User.builder().id(1L).username("user").password("encoded").roleType(roleType).build());
+        };
+    }
+}
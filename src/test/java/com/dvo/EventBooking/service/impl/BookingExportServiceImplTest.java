@@ -0,0 +1,80 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.web.model.request.BookingExportFormat;
+import com.dvo.EventBooking.web.model.response.BookingExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BookingExportServiceImplTest {
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EventService eventService;
+
+    private BookingExportServiceImpl bookingExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bookingExportService = new BookingExportServiceImpl(bookingRepository, eventService,
+                new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+        doAnswer(invocation -> {
+            Consumer<BookingExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(new BookingExportRow(1L, LocalDate.of(2025, 1, 2), 3L, "user", "user@ya.ru", "Ivan", "Petrov"));
+            consumer.accept(new BookingExportRow(2L, LocalDate.of(2025, 1, 3), 4L, "other", "other@ya.ru", "Anna, \"Ann\"", null));
+            return null;
+        }).when(bookingRepository).streamByEventId(eq(1L), any());
+    }
+
+    @Test
+    void testExport_csv() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        long exported = bookingExportService.exportByEventId(1L, BookingExportFormat.CSV, writer);
+
+        assertEquals(2, exported);
+        assertEquals("""
+                bookingId,createDate,userId,username,email,firstName,lastName
+                1,2025-01-02,3,user,user@ya.ru,Ivan,Petrov
+                2,2025-01-03,4,other,other@ya.ru,"Anna, ""Ann\""",
+                """, writer.toString());
+    }
+
+    @Test
+    void testExport_ndjson() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        bookingExportService.exportByEventId(1L, BookingExportFormat.NDJSON, writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"bookingId\":1"));
+        assertTrue(lines[0].contains("\"createDate\":\"2025-01-02\""));
+        assertTrue(lines[1].contains("\"username\":\"other\""));
+    }
+
+    @Test
+    void testExport_whenEventNotExists() {
+        when(eventService.findById(2L)).thenThrow(new EntityNotFoundException("Event not found with ID: 2"));
+
+        assertThrows(EntityNotFoundException.class,
+                () -> bookingExportService.exportByEventId(2L, BookingExportFormat.CSV, new StringWriter()));
+        verify(bookingRepository, never()).streamByEventId(eq(2L), any());
+    }
+}
@@ -0,0 +1,182 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.exception.BookingIntakeUnavailableException;
+import com.dvo.EventBooking.exception.BookingQueueFullException;
+import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingBatchItemResponse;
+import com.dvo.EventBooking.web.model.response.BookingRequestResponse;
+import com.dvo.EventBooking.web.model.response.BookingRequestStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BookingIntakeServiceImplTest {
+    private final CountDownLatch writerBusy = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+    private BookingService bookingService;
+    private BookingIntakeServiceImpl bookingIntakeService;
+
+    @BeforeEach
+    void setUp() {
+        bookingService = mock(BookingService.class);
+        bookingIntakeService = new BookingIntakeServiceImpl(bookingService, true, 1, 2, 10, Duration.ofMinutes(1), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWriter.countDown();
+        bookingIntakeService.stop();
+    }
+
+    @Test
+    void testSubmit_processesPartitionInOneBatch() throws InterruptedException {
+        when(bookingService.saveAll(anyList()))
+                .thenAnswer(invocation -> blockWriter())
+                .thenReturn(List.of(
+                        BookingBatchItemResponse.builder().index(0).userId(1L).eventId(1L).bookingId(10L).created(true).build(),
+                        BookingBatchItemResponse.builder().index(1).userId(2L).eventId(1L).error("Event with ID: 1 is full").build()
+                ));
+        startWithBusyWriter();
+
+        BookingRequestResponse first = bookingIntakeService.submit(UpsertBookingRequest.builder().userId(1L).eventId(1L).build());
+        BookingRequestResponse second = bookingIntakeService.submit(UpsertBookingRequest.builder().userId(2L).eventId(1L).build());
+        assertEquals(BookingRequestStatus.PENDING, bookingIntakeService.findByRequestId(first.getRequestId()).getStatus());
+
+        releaseWriter.countDown();
+
+        BookingRequestResponse created = await(first.getRequestId());
+        BookingRequestResponse rejected = await(second.getRequestId());
+        assertEquals(BookingRequestStatus.CREATED, created.getStatus());
+        assertEquals(10L, created.getBookingId());
+        assertEquals(BookingRequestStatus.REJECTED, rejected.getStatus());
+        assertEquals("Event with ID: 1 is full", rejected.getError());
+        verify(bookingService, times(2)).saveAll(anyList());
+        verify(bookingService).saveAll(argThat(batch -> batch.size() == 2));
+    }
+
+    @Test
+    void testSubmit_whenBatchFails() {
+        when(bookingService.saveAll(anyList())).thenThrow(new IllegalStateException("Event with ID: 1 has no 1 free seats"));
+        bookingIntakeService.start();
+
+        BookingRequestResponse pending = bookingIntakeService.submit(UpsertBookingRequest.builder().userId(1L).eventId(1L).build());
+
+        BookingRequestResponse result = await(pending.getRequestId());
+        assertEquals(BookingRequestStatus.REJECTED, result.getStatus());
+        assertEquals("Booking could not be processed", result.getError());
+    }
+
+    @Test
+    void testSubmit_whenBatchFails_retriesOneAtATime() throws InterruptedException {
+        when(bookingService.saveAll(anyList()))
+                .thenAnswer(invocation -> blockWriter())
+                .thenThrow(new IllegalStateException("Event with ID: 1 has no 2 free seats"))
+                .thenReturn(List.of(BookingBatchItemResponse.builder().index(0).userId(1L).eventId(1L).bookingId(10L).created(true).build()))
+                .thenThrow(new IllegalStateException("Event with ID: 1 has no 1 free seats"));
+        startWithBusyWriter();
+
+        BookingRequestResponse first = bookingIntakeService.submit(UpsertBookingRequest.builder().userId(1L).eventId(1L).build());
+        BookingRequestResponse second = bookingIntakeService.submit(UpsertBookingRequest.builder().userId(2L).eventId(1L).build());
+        releaseWriter.countDown();
+
+        assertEquals(BookingRequestStatus.CREATED, await(first.getRequestId()).getStatus());
+        BookingRequestResponse rejected = await(second.getRequestId());
+        assertEquals(BookingRequestStatus.REJECTED, rejected.getStatus());
+        assertEquals("Booking could not be processed", rejected.getError());
+        verify(bookingService, times(4)).saveAll(anyList());
+    }
+
+    @Test
+    void testSubmit_whenQueueFull() throws InterruptedException {
+        when(bookingService.saveAll(anyList())).thenAnswer(invocation -> blockWriter());
+        startWithBusyWriter();
+
+        bookingIntakeService.submit(UpsertBookingRequest.builder().userId(1L).eventId(1L).build());
+        bookingIntakeService.submit(UpsertBookingRequest.builder().userId(2L).eventId(1L).build());
+
+        assertThrows(BookingQueueFullException.class,
+                () -> bookingIntakeService.submit(UpsertBookingRequest.builder().userId(3L).eventId(1L).build()));
+    }
+
+    @Test
+    void testSubmit_whenNotStarted() {
+        assertThrows(BookingIntakeUnavailableException.class,
+                () -> bookingIntakeService.submit(UpsertBookingRequest.builder().userId(1L).eventId(1L).build()));
+    }
+
+    @Test
+    void testSubmit_afterStop() {
+        bookingIntakeService.start();
+        bookingIntakeService.stop();
+
+        assertThrows(BookingIntakeUnavailableException.class,
+                () -> bookingIntakeService.submit(UpsertBookingRequest.builder().userId(1L).eventId(1L).build()));
+        verify(bookingService, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testStop_drainsAcceptedBookings() throws InterruptedException {
+        when(bookingService.saveAll(anyList()))
+                .thenAnswer(invocation -> blockWriter())
+                .thenReturn(List.of(BookingBatchItemResponse.builder().index(0).userId(1L).eventId(1L).bookingId(10L).created(true).build()));
+        startWithBusyWriter();
+        BookingRequestResponse pending = bookingIntakeService.submit(UpsertBookingRequest.builder().userId(1L).eventId(1L).build());
+
+        releaseWriter.countDown();
+        bookingIntakeService.stop();
+
+        assertEquals(BookingRequestStatus.CREATED, bookingIntakeService.findByRequestId(pending.getRequestId()).getStatus());
+    }
+
+    @Test
+    void testGetPhase_stopsAfterWebServer() {
+        assertTrue(bookingIntakeService.getPhase() < WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE);
+    }
+
+    @Test
+    void testFindByRequestId_whenUnknown() {
+        assertThrows(EntityNotFoundException.class, () -> bookingIntakeService.findByRequestId(UUID.randomUUID()));
+    }
+
+    /**
+     * Starts the intake and parks its writer inside saveAll on a first
+     * booking, so the following submissions stay queued until released.
+     */
+    private void startWithBusyWriter() throws InterruptedException {
+        bookingIntakeService.start();
+        bookingIntakeService.submit(UpsertBookingRequest.builder().userId(0L).eventId(1L).build());
+        assertTrue(writerBusy.await(5, TimeUnit.SECONDS));
+    }
+
+    private List<BookingBatchItemResponse> blockWriter() throws InterruptedException {
+        writerBusy.countDown();
+        releaseWriter.await(5, TimeUnit.SECONDS);
+
+        return List.of(BookingBatchItemResponse.builder().index(0).userId(0L).eventId(1L).bookingId(1L).created(true).build());
+    }
+
+    private BookingRequestResponse await(UUID requestId) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        BookingRequestResponse result = bookingIntakeService.findByRequestId(requestId);
+        while (result.getStatus() == BookingRequestStatus.PENDING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            result = bookingIntakeService.findByRequestId(requestId);
+        }
+
+        return result;
+    }
+}
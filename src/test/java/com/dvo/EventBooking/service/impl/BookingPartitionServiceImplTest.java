@@ -0,0 +1,158 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+public class BookingPartitionServiceImplTest {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final YearMonth current = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(bookingRepository.findOldestDefaultEventDate()).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void testStart_whenDisabled() {
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, false, 2, Period.ZERO);
+
+        service.start();
+
+        verify(bookingRepository).backfillEventDates();
+        verify(bookingRepository, never()).isPartitioned();
+        verify(bookingRepository, never()).createPartition(anyString(), any(), any());
+    }
+
+    @Test
+    void testStart_whenMaintenanceFails() {
+        when(bookingRepository.isPartitioned()).thenReturn(true);
+        when(bookingRepository.findPartitionNames()).thenThrow(new IllegalStateException("lock timeout"));
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 2, Period.ZERO);
+
+        assertDoesNotThrow(service::start);
+    }
+
+    @Test
+    void testMaintain_whenTableNotPartitioned() {
+        when(bookingRepository.isPartitioned()).thenReturn(false);
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 2, Period.ZERO);
+
+        service.maintain();
+
+        InOrder inOrder = inOrder(bookingRepository);
+        inOrder.verify(bookingRepository).lockMaintenance();
+        inOrder.verify(bookingRepository).isPartitioned();
+        verify(bookingRepository, never()).createPartition(anyString(), any(), any());
+    }
+
+    @Test
+    void testMaintain_createsPartitionsAhead() {
+        when(bookingRepository.isPartitioned()).thenReturn(true);
+        when(bookingRepository.findPartitionNames()).thenReturn(List.of("bookings_default", partition(current)));
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 2, Period.ZERO);
+
+        service.maintain();
+
+        verify(bookingRepository).lockMaintenance();
+        verify(bookingRepository, never()).createPartition(eq(partition(current)), any(), any());
+        verify(bookingRepository).createPartition(partition(current.plusMonths(1)), current.plusMonths(1).atDay(1), current.plusMonths(2).atDay(1));
+        verify(bookingRepository).createPartition(partition(current.plusMonths(2)), current.plusMonths(2).atDay(1), current.plusMonths(3).atDay(1));
+        verify(bookingRepository, times(2)).createPartition(anyString(), any(), any());
+        verify(bookingRepository, never()).detachPartition(anyString(), anyString());
+    }
+
+    @Test
+    void testMaintain_carvesOldRowsOutOfDefaultPartition() {
+        YearMonth oldest = current.minusMonths(2);
+        when(bookingRepository.isPartitioned()).thenReturn(true);
+        when(bookingRepository.findPartitionNames()).thenReturn(List.of("bookings_default", partition(current)));
+        when(bookingRepository.findOldestDefaultEventDate()).thenReturn(Optional.of(oldest.atDay(15)));
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 0, Period.ZERO);
+
+        service.maintain();
+
+        verify(bookingRepository).createPartition(partition(oldest), oldest.atDay(1), oldest.plusMonths(1).atDay(1));
+        verify(bookingRepository).createPartition(eq(partition(current.minusMonths(1))), any(LocalDate.class), any(LocalDate.class));
+        verify(bookingRepository, times(2)).createPartition(anyString(), any(), any());
+    }
+
+    @Test
+    void testMaintain_detachesExpiredPartitions() {
+        YearMonth expired = current.minusMonths(3);
+        when(bookingRepository.isPartitioned()).thenReturn(true);
+        when(bookingRepository.findPartitionNames()).thenReturn(List.of("bookings_default", partition(expired), partition(current)));
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 0, Period.ofMonths(1));
+
+        service.maintain();
+
+        verify(bookingRepository).detachPartition(partition(expired), "bookings_archive_" + expired.format(SUFFIX));
+        verify(bookingRepository, times(1)).detachPartition(anyString(), anyString());
+    }
+
+    @Test
+    void testMaintain_suffixesExistingArchiveName() {
+        YearMonth expired = current.minusMonths(3);
+        String archiveName = "bookings_archive_" + expired.format(SUFFIX);
+        when(bookingRepository.isPartitioned()).thenReturn(true);
+        when(bookingRepository.findPartitionNames()).thenReturn(List.of("bookings_default", partition(expired), partition(current)));
+        when(bookingRepository.tableExists(archiveName)).thenReturn(true);
+        when(bookingRepository.tableExists(archiveName + "_2")).thenReturn(true);
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 0, Period.ofMonths(1));
+
+        service.maintain();
+
+        verify(bookingRepository).detachPartition(partition(expired), archiveName + "_3");
+    }
+
+    @Test
+    void testMaintain_doesNotRecreateDetachedMonths() {
+        YearMonth oldest = current.minusMonths(6);
+        YearMonth oldestKept = YearMonth.from(LocalDate.now().minusMonths(2));
+        when(bookingRepository.isPartitioned()).thenReturn(true);
+        when(bookingRepository.findPartitionNames()).thenReturn(List.of("bookings_default", partition(current)));
+        when(bookingRepository.findOldestDefaultEventDate()).thenReturn(Optional.of(oldest.atDay(1)));
+        BookingPartitionServiceImpl service = new BookingPartitionServiceImpl(bookingRepository, transactionTemplate, true, 0, Period.ofMonths(2));
+
+        service.maintain();
+
+        verify(bookingRepository, never()).createPartition(eq(partition(oldest)), any(), any());
+        verify(bookingRepository, never()).createPartition(eq(partition(oldestKept.minusMonths(1))), any(), any());
+        verify(bookingRepository).createPartition(eq(partition(oldestKept)), any(), any());
+        verify(bookingRepository, never()).detachPartition(anyString(), anyString());
+    }
+
+    private static String partition(YearMonth month) {
+        return "bookings_p" + month.format(SUFFIX);
+    }
+}
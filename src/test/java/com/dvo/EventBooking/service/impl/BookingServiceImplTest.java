@@ -4,22 +4,35 @@ import com.dvo.EventBooking.entity.Booking;
 import com.dvo.EventBooking.entity.Event;
 import com.dvo.EventBooking.entity.User;
 import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.exception.WaitlistedException;
+import com.dvo.EventBooking.metrics.BookingMetrics;
 import com.dvo.EventBooking.repository.BookingRepository;
 import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.service.EventPageCache;
 import com.dvo.EventBooking.service.EventService;
+import com.dvo.EventBooking.service.SeatReservationLedger;
 import com.dvo.EventBooking.service.UserService;
+import com.dvo.EventBooking.service.WaitlistService;
 import com.dvo.EventBooking.web.model.request.UpdateBookingRequest;
 import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingBatchItemResponse;
+import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import com.dvo.EventBooking.web.model.response.WaitlistResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,12 +43,30 @@ public class BookingServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private EventService eventService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private SeatReservationLedger seatReservationLedger;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private EventPageCache eventPageCache;
+
+    @Mock
+    private WaitlistService waitlistService;
+
     @InjectMocks
     BookingServiceImpl bookingService;
 
@@ -47,7 +78,7 @@ public class BookingServiceImplTest {
     @Test
     void testFindAll() {
         Page<Booking> bookings = new PageImpl<>(List.of(new Booking(), new Booking()));
-        when(bookingRepository.findAll(any(Pageable.class))).thenReturn(bookings);
+        when(bookingRepository.findAllActive(any(Pageable.class))).thenReturn(bookings);
 
         Page<Booking> result = bookingService.findAll(PageRequest.of(0, 10));
         assertEquals(2, result.getTotalElements());
@@ -62,10 +93,38 @@ public class BookingServiceImplTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    void testFindAllShort() {
+        Page<BookingShortResponse> bookings = new PageImpl<>(List.of(new BookingShortResponse()));
+        when(bookingRepository.findAllShort(any(Pageable.class))).thenReturn(bookings);
+
+        Page<BookingShortResponse> result = bookingService.findAllShort(PageRequest.of(0, 10));
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void testFindAllShortAfter() {
+        List<BookingShortResponse> bookings = List.of(new BookingShortResponse(), new BookingShortResponse());
+        when(bookingRepository.findAllShortAfter(5L, Limit.of(11))).thenReturn(bookings);
+
+        List<BookingShortResponse> result = bookingService.findAllShortAfter(5L, 11);
+        assertEquals(2, result.size());
+        verify(bookingRepository, never()).findAllShort(any(Pageable.class));
+    }
+
+    @Test
+    void testFindAllShortByEventId() {
+        List<BookingShortResponse> bookings = List.of(new BookingShortResponse(), new BookingShortResponse());
+        when(bookingRepository.findAllShortByEventId(1L)).thenReturn(bookings);
+
+        List<BookingShortResponse> result = bookingService.findAllShortByEventId(1L);
+        assertEquals(2, result.size());
+    }
+
     @Test
     void testFindById() {
         Booking booking = new Booking();
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.findWithUserAndEventById(1L)).thenReturn(Optional.of(booking));
 
         Booking result = bookingService.findById(1L);
         assertEquals(booking, result);
@@ -73,7 +132,7 @@ public class BookingServiceImplTest {
 
     @Test
     void testFindById_whenNotExists() {
-        when(bookingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(bookingRepository.findWithUserAndEventById(1L)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> bookingService.findById(1L));
     }
@@ -88,9 +147,10 @@ public class BookingServiceImplTest {
                 .eventId(1L)
                 .build();
 
+        when(seatReservationLedger.tryAcquire(1L)).thenReturn(true);
         when(userService.findById(1L)).thenReturn(user);
         when(eventService.findById(1L)).thenReturn(event);
-        when(bookingRepository.countByEventId(1L)).thenReturn(3);
+        when(eventRepository.reserveSeat(1L)).thenReturn(1);
         when(bookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         Booking result = bookingService.save(booking);
@@ -101,8 +161,10 @@ public class BookingServiceImplTest {
 
         verify(userService).findById(1L);
         verify(eventService).findById(1L);
-        verify(bookingRepository).countByEventId(1L);
+        verify(eventRepository).reserveSeat(1L);
         verify(bookingRepository).save(any(Booking.class));
+        verify(bookingMetrics).accepted(1);
+        verify(eventPageCache).refreshAvailable(1L);
     }
 
     @Test
@@ -114,17 +176,110 @@ public class BookingServiceImplTest {
 
         Event event = Event.builder().id(1L).maxAttendees(5).build();
 
+        when(seatReservationLedger.tryAcquire(1L)).thenReturn(true);
         when(userService.findById(1L)).thenReturn(new User());
         when(eventService.findById(1L)).thenReturn(event);
-        when(bookingRepository.countByEventId(1L)).thenReturn(5);
+        when(eventRepository.reserveSeat(1L)).thenReturn(0);
+        when(waitlistService.enqueue(1L, 1L)).thenReturn(new WaitlistResponse(1L, 1L, 3));
 
-        assertThrows(EntityNotFoundException.class, () -> bookingService.save(booking));
+        WaitlistedException ex = assertThrows(WaitlistedException.class, () -> bookingService.save(booking));
+        assertEquals(3, ex.getWaitlist().getPosition());
         verify(userService).findById(1L);
         verify(eventService).findById(1L);
-        verify(bookingRepository).countByEventId(1L);
+        verify(eventRepository).reserveSeat(1L);
+        verify(seatReservationLedger).markSoldOut(1L);
+        verify(bookingMetrics).conflict();
         verify(bookingRepository, never()).save(any());
     }
 
+    @Test
+    void testSave_whenLedgerSoldOut() {
+        UpsertBookingRequest booking = UpsertBookingRequest.builder()
+                .userId(1L)
+                .eventId(1L)
+                .build();
+
+        when(seatReservationLedger.tryAcquire(1L)).thenReturn(false);
+        when(userService.findById(1L)).thenReturn(new User());
+        when(eventRepository.reserveSeat(1L)).thenReturn(0);
+        when(waitlistService.enqueue(1L, 1L)).thenReturn(new WaitlistResponse(1L, 1L, 1));
+
+        WaitlistedException ex = assertThrows(WaitlistedException.class, () -> bookingService.save(booking));
+        assertEquals(1, ex.getWaitlist().getPosition());
+        verify(eventRepository).reserveSeat(1L);
+        verify(bookingRepository, never()).save(any());
+        verify(bookingMetrics).rejectedFull(1);
+        verify(bookingMetrics, never()).conflict();
+    }
+
+    @Test
+    void testSave_whenLedgerStale() {
+        User user = User.builder().id(1L).build();
+        Event event = Event.builder().id(1L).maxAttendees(5).build();
+
+        UpsertBookingRequest booking = UpsertBookingRequest.builder()
+                .userId(1L)
+                .eventId(1L)
+                .build();
+
+        when(seatReservationLedger.tryAcquire(1L)).thenReturn(false);
+        when(userService.findById(1L)).thenReturn(user);
+        when(eventService.findById(1L)).thenReturn(event);
+        when(eventRepository.reserveSeat(1L)).thenReturn(1);
+        when(bookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Booking result = bookingService.save(booking);
+
+        assertEquals(event, result.getEvent());
+        verify(waitlistService, never()).enqueue(any(), any());
+        verify(bookingMetrics).accepted(1);
+    }
+
+    @Test
+    void testSaveAll() {
+        Event event = Event.builder().id(1L).maxAttendees(5).bookedAttendees(4).build();
+
+        List<UpsertBookingRequest> bookings = List.of(
+                UpsertBookingRequest.builder().userId(1L).eventId(1L).build(),
+                UpsertBookingRequest.builder().userId(2L).eventId(1L).build(),
+                UpsertBookingRequest.builder().userId(3L).eventId(1L).build(),
+                UpsertBookingRequest.builder().userId(1L).eventId(2L).build()
+        );
+
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(eventRepository.findAllByIdInForUpdate(anyCollection())).thenReturn(List.of(event));
+        when(eventRepository.reserveSeats(1L, 1)).thenReturn(1);
+        when(bookingRepository.insertAll(anyList())).thenReturn(List.of(10L));
+        when(waitlistService.enqueue(2L, 1L)).thenReturn(new WaitlistResponse(2L, 1L, 1));
+
+        List<BookingBatchItemResponse> result = bookingService.saveAll(bookings);
+
+        assertEquals(4, result.size());
+        assertTrue(result.get(0).isCreated());
+        assertEquals(10L, result.get(0).getBookingId());
+        assertFalse(result.get(1).isCreated());
+        assertEquals("Event with ID: 1 is full", result.get(1).getError());
+        assertEquals(1L, result.get(1).getWaitlistPosition());
+        assertFalse(result.get(2).isCreated());
+        assertEquals("User not found with ID: 3", result.get(2).getError());
+        assertFalse(result.get(3).isCreated());
+        assertEquals("Event not found with ID: 2", result.get(3).getError());
+
+        verify(eventRepository).reserveSeats(1L, 1);
+        verify(seatReservationLedger).reset(1L, 0);
+        verify(bookingRepository).insertAll(argThat(list -> list.size() == 1));
+        verify(bookingMetrics).rejectedFull(1);
+        verify(bookingMetrics).accepted(1);
+    }
+
+    @Test
+    void testSaveAll_whenBatchTooLarge() {
+        List<UpsertBookingRequest> bookings = Collections.nCopies(1001, new UpsertBookingRequest(1L, 1L));
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.saveAll(bookings));
+        verifyNoInteractions(eventRepository);
+    }
+
     @Test
     void testUpdate() {
         User user = User.builder().id(1L).build();
@@ -141,16 +296,16 @@ public class BookingServiceImplTest {
                 .eventId(1L)
                 .build();
 
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(existBooking));
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(existBooking));
         when(userService.findById(1L)).thenReturn(user);
         when(eventService.findById(1L)).thenReturn(event);
-        when(bookingRepository.countByEventId(1L)).thenReturn(3);
         when(bookingRepository.save(existBooking)).thenReturn(existBooking);
 
         Booking result = bookingService.update(request, 1L);
 
         assertEquals(user, result.getUser());
         assertEquals(event, result.getEvent());
+        verify(eventRepository, never()).reserveSeat(anyLong());
         verify(bookingRepository).save(existBooking);
     }
 
@@ -171,18 +326,127 @@ public class BookingServiceImplTest {
                 .eventId(2L)
                 .build();
 
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(existBooking));
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(existBooking));
         when(userService.findById(1L)).thenReturn(user);
         when(eventService.findById(2L)).thenReturn(newEvent);
-        when(bookingRepository.countByEventId(2L)).thenReturn(5);
+        when(seatReservationLedger.tryAcquire(2L)).thenReturn(true);
+        when(eventRepository.reserveSeat(2L)).thenReturn(0);
 
         assertThrows(EntityNotFoundException.class, () -> bookingService.update(request, 1L));
+        verify(eventRepository, never()).releaseSeat(anyLong());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testUpdate_whenEventChanged() {
+        User user = User.builder().id(1L).build();
+        Event event = Event.builder().id(1L).maxAttendees(10).build();
+        Event newEvent = Event.builder().id(2L).maxAttendees(5).build();
+
+        Booking existBooking = Booking.builder()
+                .id(1L)
+                .event(event)
+                .user(user)
+                .build();
+
+        UpdateBookingRequest request = UpdateBookingRequest.builder()
+                .eventId(2L)
+                .build();
+
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(existBooking));
+        when(eventService.findById(2L)).thenReturn(newEvent);
+        when(seatReservationLedger.tryAcquire(2L)).thenReturn(true);
+        when(eventRepository.reserveSeat(2L)).thenReturn(1);
+        when(bookingRepository.save(existBooking)).thenReturn(existBooking);
+
+        Booking result = bookingService.update(request, 1L);
+
+        assertEquals(newEvent, result.getEvent());
+        verify(eventRepository).reserveSeat(2L);
+        verify(eventRepository).releaseSeat(1L);
+        verify(waitlistService).promote(1L, 1);
+        verify(seatReservationLedger).release(1L);
+        verify(eventPageCache).refreshAvailable(1L);
+        verify(eventPageCache).refreshAvailable(2L);
+    }
+
+    @Test
+    void testUpdate_whenEventChanged_promotesWaitlist() {
+        Event event = Event.builder().id(1L).maxAttendees(10).build();
+        Event newEvent = Event.builder().id(2L).maxAttendees(5).build();
+        Booking existBooking = Booking.builder()
+                .id(1L)
+                .event(event)
+                .user(User.builder().id(1L).build())
+                .build();
+        UpdateBookingRequest request = UpdateBookingRequest.builder()
+                .eventId(2L)
+                .build();
+
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(existBooking));
+        when(eventService.findById(2L)).thenReturn(newEvent);
+        when(seatReservationLedger.tryAcquire(2L)).thenReturn(true);
+        when(eventRepository.reserveSeat(2L)).thenReturn(1);
+        when(waitlistService.promote(1L, 1)).thenReturn(1);
+        when(bookingRepository.save(existBooking)).thenReturn(existBooking);
+
+        bookingService.update(request, 1L);
+
+        verify(eventRepository).releaseSeat(1L);
+        verify(seatReservationLedger, never()).release(1L);
+        verify(eventPageCache).refreshAvailable(1L);
+    }
+
+    @Test
+    void testUpdate_whenUserChanged() {
+        User user = User.builder().id(1L).build();
+        User newUser = User.builder().id(2L).build();
+        Event event = Event.builder().id(1L).maxAttendees(5).build();
+
+        Booking existBooking = Booking.builder()
+                .id(1L)
+                .event(event)
+                .user(user)
+                .build();
+
+        UpdateBookingRequest request = UpdateBookingRequest.builder()
+                .userId(2L)
+                .build();
+
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(existBooking));
+        when(userService.findById(2L)).thenReturn(newUser);
+        when(bookingRepository.save(existBooking)).thenReturn(existBooking);
+
+        Booking result = bookingService.update(request, 1L);
+
+        assertEquals(newUser, result.getUser());
+        verify(eventRepository).touchBookings(1L);
+    }
+
+    @Test
+    void testUpdate_whenVersionMismatch() {
+        Booking existBooking = Booking.builder()
+                .id(1L)
+                .event(Event.builder().id(1L).build())
+                .user(User.builder().id(1L).build())
+                .version(3L)
+                .build();
+
+        UpdateBookingRequest request = UpdateBookingRequest.builder()
+                .eventId(2L)
+                .version(2L)
+                .build();
+
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(existBooking));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> bookingService.update(request, 1L));
+        verifyNoInteractions(seatReservationLedger);
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
     void testUpdate_whenBookingNotExists(){
-        when(bookingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.empty());
         UpdateBookingRequest request = UpdateBookingRequest.builder()
                 .userId(1L)
                 .eventId(1L)
@@ -193,16 +457,60 @@ public class BookingServiceImplTest {
 
     @Test
     void testDeleteById() {
+        Booking booking = Booking.builder()
+                .id(1L)
+                .event(Event.builder().id(2L).build())
+                .build();
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(booking));
+
+        bookingService.deleteById(1L);
+
+        verify(bookingRepository).delete(booking);
+        verify(eventRepository).releaseSeat(2L);
+        verify(waitlistService).promote(2L, 1);
+        verify(seatReservationLedger).release(2L);
+        verify(eventPageCache).refreshAvailable(2L);
+    }
+
+    @Test
+    void testDeleteById_whenWaitlistPromoted() {
+        Booking booking = Booking.builder()
+                .id(1L)
+                .event(Event.builder().id(2L).build())
+                .build();
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.of(booking));
+        when(waitlistService.promote(2L, 1)).thenReturn(1);
+
         bookingService.deleteById(1L);
 
-        verify(bookingRepository).deleteById(1L);
+        verify(bookingRepository).delete(booking);
+        verify(eventRepository).releaseSeat(2L);
+        verify(seatReservationLedger, never()).release(anyLong());
+        verify(eventPageCache).refreshAvailable(2L);
+    }
+
+    @Test
+    void testDeleteById_whenNotExists() {
+        when(bookingRepository.findActiveById(1L)).thenReturn(Optional.empty());
+
+        bookingService.deleteById(1L);
+
+        verify(bookingRepository, never()).delete(any(Booking.class));
+        verify(eventRepository, never()).releaseSeat(anyLong());
     }
 
     @Test
     void testDeleteByUserId() {
+        when(bookingRepository.findEventIdsByUserId(1L)).thenReturn(List.of(2L));
+
         bookingService.deleteByUserId(1L);
 
+        verify(seatReservationLedger).remove(2L);
+        verify(eventRepository).releaseSeatsByUserId(1L);
         verify(bookingRepository).deleteByUserId(1L);
+        InOrder inOrder = inOrder(waitlistService);
+        inOrder.verify(waitlistService).deleteByUserId(1L);
+        inOrder.verify(waitlistService).promoteAvailable(List.of(2L));
     }
 
     @Test
@@ -210,5 +518,8 @@ public class BookingServiceImplTest {
         bookingService.deleteByEventId(1L);
 
         verify(bookingRepository).deleteByEventId(1L);
+        verify(waitlistService).deleteByEventId(1L);
+        verify(eventRepository).resetBookedAttendees(1L);
+        verify(seatReservationLedger).remove(1L);
     }
 }
@@ -0,0 +1,132 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.mapping.EventMapper;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.service.EventImportListener;
+import com.dvo.EventBooking.service.EventPageCache;
+import com.dvo.EventBooking.service.EventSearchIndex;
+import com.dvo.EventBooking.service.SeatReservationLedger;
+import com.dvo.EventBooking.web.model.request.EventImportFormat;
+import com.dvo.EventBooking.web.model.request.UpsertEventRequest;
+import com.dvo.EventBooking.web.model.response.EventImportErrorResponse;
+import com.dvo.EventBooking.web.model.response.EventImportProgressResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EventImportServiceImplTest {
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @Mock
+    private SeatReservationLedger seatReservationLedger;
+
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventPageCache eventPageCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EventImportListener listener;
+
+    private EventImportServiceImpl eventImportService;
+
+    private final String date = LocalDate.now().plusDays(1).toString();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        eventImportService = new EventImportServiceImpl(
+                eventRepository,
+                eventMapper,
+                seatReservationLedger,
+                eventSearchIndex,
+                eventPageCache,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(),
+                transactionTemplate
+        );
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(eventMapper.requestToEvent(any(UpsertEventRequest.class))).thenAnswer(invocation -> {
+            UpsertEventRequest request = invocation.getArgument(0);
+            return Event.builder().name(request.getName()).maxAttendees(request.getMaxAttendees()).build();
+        });
+    }
+
+    @Test
+    void testImportEvents_ndjson() throws Exception {
+        String input = String.join("\n",
+                "{\"name\":\"first\",\"description\":\"d\",\"city\":\"c\",\"address\":\"a\",\"date\":\"" + date + "\",\"maxAttendees\":10}",
+                "",
+                "{\"name\":\"second\",\"description\":\"d\",\"city\":\"c\",\"address\":\"a\",\"date\":\"" + date + "\",\"maxAttendees\":0}",
+                "not a json",
+                "{\"name\":\"third\",\"description\":\"d\",\"city\":\"c\",\"address\":\"a\",\"date\":\"" + date + "\",\"maxAttendees\":20}"
+        );
+        when(eventRepository.insertAll(anyList())).thenReturn(List.of(1L, 2L));
+
+        EventImportProgressResponse result = eventImportService.importEvents(new BufferedReader(new StringReader(input)), EventImportFormat.NDJSON, listener);
+
+        assertEquals(4, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.isCompleted());
+
+        verify(eventRepository).insertAll(argThat(events -> events.size() == 2));
+        verify(seatReservationLedger).reset(1L, 10);
+        verify(seatReservationLedger).reset(2L, 20);
+        verify(listener).onError(argThat((EventImportErrorResponse error) -> error.getLine() == 3));
+        verify(listener).onError(argThat((EventImportErrorResponse error) -> error.getLine() == 4));
+        verify(listener).onProgress(any(EventImportProgressResponse.class));
+    }
+
+    @Test
+    void testImportEvents_csv() throws Exception {
+        String input = String.join("\n",
+                "name,description,city,address,date,max_attendees",
+                "concert,\"rock, live\",Moscow,\"Lenina, 1\"," + date + ",100"
+        );
+        when(eventRepository.insertAll(anyList())).thenReturn(List.of(1L));
+
+        EventImportProgressResponse result = eventImportService.importEvents(new BufferedReader(new StringReader(input)), EventImportFormat.CSV, listener);
+
+        assertEquals(1, result.getImported());
+        assertEquals(0, result.getFailed());
+        verify(eventMapper).requestToEvent(argThat(request ->
+                request.getDescription().equals("rock, live") && request.getAddress().equals("Lenina, 1")));
+    }
+
+    @Test
+    void testImportEvents_csvWithoutRequiredColumns() {
+        String input = "name,city\nconcert,Moscow";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventImportService.importEvents(new BufferedReader(new StringReader(input)), EventImportFormat.CSV, listener));
+        verifyNoInteractions(eventRepository);
+    }
+}
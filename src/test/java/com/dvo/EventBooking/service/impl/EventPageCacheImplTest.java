@@ -0,0 +1,202 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.EventSeatsProjection;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EventPageCacheImplTest {
+    private EventRepository eventRepository;
+    private EventPageCacheImpl eventPageCache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final LocalDate date = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        eventPageCache = new EventPageCacheImpl(eventRepository, true, Duration.ofMinutes(1), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGet_cachesByFilterAndPage() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        eventPageCache.get(filter("Kazan", 1), loader(response(2L, 10)));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testRefreshAvailable_updatesOnlyBookedEvent() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10), response(2L, 5)));
+        List<EventSeatsProjection> seats = List.of(seats(1L, 9));
+        when(eventRepository.findAvailableSeatsByIdIn(List.of(1L))).thenReturn(seats);
+
+        eventPageCache.refreshAvailable(1L);
+
+        List<EventShortResponse> page = eventPageCache.get(filter("Kazan", 0), loader());
+        assertEquals(9, page.get(0).getAvailableAttendees());
+        assertEquals(5, page.get(1).getAvailableAttendees());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testRefreshAvailable_writesValueReadBack() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        eventPageCache.get(filter("Kazan", 1), loader(response(1L, 10)));
+        List<EventSeatsProjection> seats = List.of(seats(1L, 8));
+        when(eventRepository.findAvailableSeatsByIdIn(List.of(1L))).thenReturn(seats);
+
+        eventPageCache.refreshAvailable(1L);
+        eventPageCache.refreshAvailable(1L);
+
+        assertEquals(8, eventPageCache.get(filter("Kazan", 0), loader()).get(0).getAvailableAttendees());
+        assertEquals(8, eventPageCache.get(filter("Kazan", 1), loader()).get(0).getAvailableAttendees());
+    }
+
+    @Test
+    void testRefreshAvailable_readsInTransactionAndWritesAfterCommit() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        List<EventSeatsProjection> seats = List.of(seats(1L, 9, 1));
+        when(eventRepository.findAvailableSeatsByIdIn(List.of(1L))).thenReturn(seats);
+
+        TransactionSynchronizationManager.initSynchronization();
+        eventPageCache.refreshAvailable(1L);
+
+        verify(eventRepository).findAvailableSeatsByIdIn(List.of(1L));
+        assertEquals(10, eventPageCache.get(filter("Kazan", 0), loader()).get(0).getAvailableAttendees());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(9, eventPageCache.get(filter("Kazan", 0), loader()).get(0).getAvailableAttendees());
+    }
+
+    @Test
+    void testRefreshAvailable_skipsOlderBookingsVersion() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        List<EventSeatsProjection> newer = List.of(seats(1L, 8, 2));
+        List<EventSeatsProjection> older = List.of(seats(1L, 9, 1));
+        when(eventRepository.findAvailableSeatsByIdIn(List.of(1L))).thenReturn(newer, older);
+
+        eventPageCache.refreshAvailable(1L);
+        eventPageCache.refreshAvailable(1L);
+
+        assertEquals(8, eventPageCache.get(filter("Kazan", 0), loader()).get(0).getAvailableAttendees());
+    }
+
+    @Test
+    void testRefreshAvailable_evictsPageCachedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        eventPageCache.refreshAvailable(1L);
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 9)));
+        assertEquals(2, loads.get());
+        verify(eventRepository, never()).findAvailableSeatsByIdIn(any());
+    }
+
+    @Test
+    void testRefreshAvailable_whenEventNotCached() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(2L, 10)));
+
+        eventPageCache.refreshAvailable(1L);
+
+        verify(eventRepository, never()).findAvailableSeatsByIdIn(any());
+    }
+
+    @Test
+    void testEvictById_dropsAllPagesOfAffectedFilter() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        eventPageCache.get(filter("Kazan", 1), loader(response(2L, 10)));
+        eventPageCache.get(filter("Moscow", 0), loader(response(3L, 10)));
+
+        eventPageCache.evict(1L);
+
+        eventPageCache.get(filter("Kazan", 1), loader(response(2L, 10)));
+        eventPageCache.get(filter("Moscow", 0), loader(response(3L, 10)));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testEvictEvent_dropsFiltersTheEventNowMatches() {
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        eventPageCache.get(filter("Moscow", 0), loader(response(3L, 10)));
+
+        eventPageCache.evict(Event.builder().id(5L).name("New").city("Kazan").date(date).maxAttendees(10).build());
+
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        eventPageCache.get(filter("Moscow", 0), loader(response(3L, 10)));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testGet_whenDisabled() {
+        eventPageCache = new EventPageCacheImpl(eventRepository, false, Duration.ofMinutes(1), 100);
+
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+        eventPageCache.get(filter("Kazan", 0), loader(response(1L, 10)));
+
+        assertEquals(2, loads.get());
+    }
+
+    private EventFilter filter(String city, int pageNumber) {
+        EventFilter filter = new EventFilter();
+        filter.setCity(city);
+        filter.setPageNumber(pageNumber);
+        filter.setPageSize(10);
+
+        return filter;
+    }
+
+    private EventShortResponse response(Long id, int availableAttendees) {
+        return EventShortResponse.builder()
+                .id(id)
+                .date(date)
+                .maxAttendees(10)
+                .availableAttendees(availableAttendees)
+                .build();
+    }
+
+    private static EventSeatsProjection seats(Long id, int availableSeats) {
+        return seats(id, availableSeats, 1);
+    }
+
+    private static EventSeatsProjection seats(Long id, int availableSeats, long bookingsVersion) {
+        EventSeatsProjection seats = mock(EventSeatsProjection.class);
+        when(seats.getId()).thenReturn(id);
+        when(seats.getAvailableSeats()).thenReturn(availableSeats);
+        when(seats.getBookingsVersion()).thenReturn(bookingsVersion);
+
+        return seats;
+    }
+
+    private Supplier<List<EventShortResponse>> loader(EventShortResponse... responses) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(responses);
+        };
+    }
+}
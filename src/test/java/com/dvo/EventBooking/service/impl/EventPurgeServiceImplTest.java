@@ -0,0 +1,93 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EventPurgeServiceImplTest {
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private EventPurgeServiceImpl eventPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventPurgeService = new EventPurgeServiceImpl(eventRepository, bookingRepository, transactionTemplate, true, 100, 10);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventPurgeService.shutdown();
+    }
+
+    @Test
+    void testPurgeLater_whenBelowThreshold() {
+        when(bookingRepository.countByEventId(1L)).thenReturn(99);
+
+        assertFalse(eventPurgeService.purgeLater(1L));
+        verify(eventRepository, never()).markDeleted(anyLong());
+    }
+
+    @Test
+    void testPurgeLater() {
+        when(bookingRepository.countByEventId(1L)).thenReturn(100);
+        when(eventRepository.markDeleted(1L)).thenReturn(1);
+        when(bookingRepository.deleteChunkByEventId(1L, 10)).thenReturn(0);
+
+        assertTrue(eventPurgeService.purgeLater(1L));
+        verify(eventRepository).markDeleted(1L);
+        verify(eventRepository, timeout(5000)).deletePurged(1L);
+    }
+
+    @Test
+    void testPurge_deletesInChunks() {
+        when(bookingRepository.deleteChunkByEventId(1L, 10)).thenReturn(10, 10, 3);
+
+        eventPurgeService.purge(1L);
+
+        verify(bookingRepository, times(3)).deleteChunkByEventId(1L, 10);
+        verify(eventRepository).deletePurged(1L);
+    }
+
+    @Test
+    void testResume_retriesFailedPurgeOnNextSweep() {
+        when(eventRepository.findDeletedIds()).thenReturn(List.of(1L, 2L));
+        when(bookingRepository.deleteChunkByEventId(1L, 10)).thenThrow(new IllegalStateException("Connection lost"));
+        when(bookingRepository.deleteChunkByEventId(2L, 10)).thenReturn(0);
+
+        eventPurgeService.resume();
+
+        verify(eventRepository, timeout(5000)).deletePurged(2L);
+        verify(eventRepository, never()).deletePurged(1L);
+
+        doReturn(0).when(bookingRepository).deleteChunkByEventId(1L, 10);
+        eventPurgeService.scheduledResume();
+
+        verify(eventRepository, timeout(5000)).deletePurged(1L);
+    }
+}
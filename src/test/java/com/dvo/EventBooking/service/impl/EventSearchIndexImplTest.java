@@ -0,0 +1,166 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.filter.EventSort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EventSearchIndexImplTest {
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private EventSearchIndexImpl eventSearchIndex;
+
+    private final LocalDate date = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(eventSearchIndex, "enabled", true);
+
+        List<Event> events = List.of(
+                event(1L, "Jazz Night", "Live jazz", "Moscow", "Arbat 1", 100),
+                event(2L, "Rock Fest", "Open air rock", "Kazan", "Bauman 5", 500),
+                event(3L, "Jazz Morning", "Coffee and jazz", "Kazan", "Kremlin 2", 50)
+        );
+        when(eventRepository.<Event, List<Event>>findBy(any(Specification.class), any())).thenReturn(events);
+
+        eventSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSupports() {
+        EventFilter filter = new EventFilter();
+        filter.setMaxAttendees(100);
+        assertFalse(eventSearchIndex.supports(filter));
+
+        filter.setCity("Kazan");
+        assertTrue(eventSearchIndex.supports(filter));
+
+        filter.setSort(EventSort.DATE);
+        assertFalse(eventSearchIndex.supports(filter));
+    }
+
+    @Test
+    void testSearch_byText() {
+        EventFilter filter = new EventFilter();
+        filter.setName("Jazz");
+
+        assertEquals(List.of(1L, 3L), eventSearchIndex.search(filter));
+    }
+
+    @Test
+    void testSearch_combinesTextAndExactPredicates() {
+        EventFilter filter = new EventFilter();
+        filter.setName("Jazz");
+        filter.setCity("Kaz");
+        filter.setMaxAttendees(50);
+
+        assertEquals(List.of(3L), eventSearchIndex.search(filter));
+    }
+
+    @Test
+    void testSearch_isCaseSensitiveLikeTheSpecification() {
+        EventFilter filter = new EventFilter();
+        filter.setName("jazz");
+
+        assertTrue(eventSearchIndex.search(filter).isEmpty());
+    }
+
+    @Test
+    void testSearch_withShortTerm() {
+        EventFilter filter = new EventFilter();
+        filter.setAddress("5");
+
+        assertEquals(List.of(2L), eventSearchIndex.search(filter));
+    }
+
+    @Test
+    void testIndex_replacesPreviousValues() {
+        eventSearchIndex.index(event(2L, "Jazz Evening", "Open air jazz", "Kazan", "Bauman 5", 500));
+
+        EventFilter filter = new EventFilter();
+        filter.setName("Jazz");
+        assertEquals(List.of(1L, 2L, 3L), eventSearchIndex.search(filter));
+
+        filter.setName("Rock");
+        assertTrue(eventSearchIndex.search(filter).isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        eventSearchIndex.remove(1L);
+
+        EventFilter filter = new EventFilter();
+        filter.setName("Jazz");
+        assertEquals(List.of(3L), eventSearchIndex.search(filter));
+    }
+
+    @Test
+    void testIndex_appliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        eventSearchIndex.index(event(4L, "Jazz Club", "Late jazz", "Moscow", "Tverskaya 3", 80));
+
+        EventFilter filter = new EventFilter();
+        filter.setName("Club");
+        assertTrue(eventSearchIndex.search(filter).isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(4L), eventSearchIndex.search(filter));
+    }
+
+    @Test
+    void testRebuild_keepsChangesCommittedDuringScan() {
+        List<Event> stale = List.of(
+                event(1L, "Jazz Night", "Live jazz", "Moscow", "Arbat 1", 100),
+                event(2L, "Rock Fest", "Open air rock", "Kazan", "Bauman 5", 500)
+        );
+        when(eventRepository.<Event, List<Event>>findBy(any(Specification.class), any())).thenAnswer(invocation -> {
+            eventSearchIndex.index(event(4L, "Jazz Club", "Late jazz", "Moscow", "Tverskaya 3", 80));
+            eventSearchIndex.remove(1L);
+            return stale;
+        });
+
+        eventSearchIndex.rebuild();
+
+        EventFilter filter = new EventFilter();
+        filter.setName("Jazz");
+        assertEquals(List.of(4L), eventSearchIndex.search(filter));
+    }
+
+    private Event event(Long id, String name, String description, String city, String address, int maxAttendees) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .city(city)
+                .address(address)
+                .date(date)
+                .maxAttendees(maxAttendees)
+                .build();
+    }
+}
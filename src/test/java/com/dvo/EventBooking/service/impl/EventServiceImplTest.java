@@ -5,20 +5,31 @@ import com.dvo.EventBooking.exception.EntityNotFoundException;
 import com.dvo.EventBooking.mapping.EventMapper;
 import com.dvo.EventBooking.repository.BookingRepository;
 import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.service.EventPageCache;
+import com.dvo.EventBooking.service.EventPurgeService;
+import com.dvo.EventBooking.service.EventSearchIndex;
+import com.dvo.EventBooking.service.SeatReservationLedger;
+import com.dvo.EventBooking.service.WaitlistService;
 import com.dvo.EventBooking.web.model.filter.EventFilter;
+import com.dvo.EventBooking.web.model.filter.EventSort;
 import com.dvo.EventBooking.web.model.request.UpdateEventRequest;
+import com.dvo.EventBooking.web.model.response.EventShortResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +44,21 @@ public class EventServiceImplTest {
     @Mock
     private EventMapper eventMapper;
 
+    @Mock
+    private SeatReservationLedger seatReservationLedger;
+
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventPageCache eventPageCache;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private EventPurgeService eventPurgeService;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -70,6 +96,88 @@ public class EventServiceImplTest {
         assertEquals(events, result);
     }
 
+    @Test
+    void testFindAllByFilter_withDateRangeAndSort() {
+        EventFilter filter = new EventFilter();
+        filter.setPageNumber(0);
+        filter.setPageSize(10);
+        filter.setDateFrom(LocalDate.now());
+        filter.setDateTo(LocalDate.now().plusDays(7));
+        filter.setSort(EventSort.DATE);
+
+        List<Event> events = List.of(new Event());
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Event.Fields.date, Event.Fields.id));
+        when(eventRepository.findAll(any(Specification.class), eq(pageRequest))).thenReturn(new PageImpl<>(events, pageRequest, 1));
+
+        assertEquals(events, eventService.findAllByFilter(filter));
+        verify(eventRepository).findAll(any(Specification.class), eq(pageRequest));
+    }
+
+    @Test
+    void testFindAllByFilter_whenIndexSupportsFilter() {
+        EventFilter filter = new EventFilter();
+        filter.setPageNumber(1);
+        filter.setPageSize(2);
+        filter.setName("event");
+
+        Event third = Event.builder().id(7L).build();
+        Event fourth = Event.builder().id(9L).build();
+
+        when(eventSearchIndex.supports(filter)).thenReturn(true);
+        when(eventSearchIndex.search(filter)).thenReturn(List.of(1L, 3L, 7L, 9L, 12L));
+        when(eventRepository.findAllById(List.of(7L, 9L))).thenReturn(List.of(fourth, third));
+
+        List<Event> result = eventService.findAllByFilter(filter);
+
+        assertEquals(List.of(third, fourth), result);
+        verify(eventRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    void testFindAllByFilter_whenIndexPageIsOutOfRange() {
+        EventFilter filter = new EventFilter();
+        filter.setPageNumber(3);
+        filter.setPageSize(2);
+        filter.setCity("city");
+
+        when(eventSearchIndex.supports(filter)).thenReturn(true);
+        when(eventSearchIndex.search(filter)).thenReturn(List.of(1L, 3L));
+
+        assertTrue(eventService.findAllByFilter(filter).isEmpty());
+        verify(eventRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testFindAllShortByFilter() {
+        EventFilter filter = new EventFilter();
+        filter.setPageNumber(0);
+        filter.setPageSize(10);
+
+        Event event = Event.builder().id(1L).build();
+        EventShortResponse response = EventShortResponse.builder().id(1L).build();
+        Page<Event> page = new PageImpl<>(List.of(event));
+
+        when(eventPageCache.get(eq(filter), any())).thenAnswer(invocation -> invocation.<Supplier<List<EventShortResponse>>>getArgument(1).get());
+        when(eventRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        when(eventMapper.eventToShortResponse(event)).thenReturn(response);
+
+        assertEquals(List.of(response), eventService.findAllShortByFilter(filter));
+    }
+
+    @Test
+    void testFindAllByFilterAfter() {
+        EventFilter filter = new EventFilter();
+        filter.setCity("city");
+
+        List<Event> events = List.of(new Event(), new Event());
+        when(eventRepository.<Event, List<Event>>findBy(any(Specification.class), any())).thenReturn(events);
+
+        List<Event> result = eventService.findAllByFilterAfter(filter, 5L, 11);
+
+        assertEquals(events, result);
+        verify(eventRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
     @Test
     void testFindById() {
         Event event = new Event();
@@ -104,21 +212,73 @@ public class EventServiceImplTest {
         UpdateEventRequest request = new UpdateEventRequest();
         request.setMaxAttendees(10);
 
-        Event existEvent = new Event();
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(existEvent));
-        when(bookingRepository.countByEventId(1L)).thenReturn(5);
-        when(eventRepository.save(existEvent)).thenReturn(existEvent);
+        Event existEvent = Event.builder().bookedAttendees(5).build();
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(existEvent));
+        when(eventRepository.saveAndFlush(existEvent)).thenReturn(existEvent);
 
         Event result = eventService.update(request, 1L);
         verify(eventMapper).updateRequestToEvent(request, existEvent);
-        verify(eventRepository).save(existEvent);
+        verify(eventRepository).saveAndFlush(existEvent);
+        verify(seatReservationLedger).reset(1L, existEvent.getMaxAttendees() - 5);
+        verify(eventSearchIndex).index(existEvent);
+        verify(eventPageCache).evict(existEvent);
         assertEquals(existEvent, result);
     }
 
+    @Test
+    void testUpdate_whenCapacityIncreased() {
+        UpdateEventRequest request = new UpdateEventRequest();
+        request.setMaxAttendees(10);
+
+        Event existEvent = Event.builder().id(1L).maxAttendees(10).bookedAttendees(5).build();
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(existEvent));
+        when(eventRepository.saveAndFlush(existEvent)).thenReturn(existEvent);
+        when(waitlistService.promote(1L, 5)).thenReturn(2);
+
+        Event result = eventService.update(request, 1L);
+
+        assertEquals(7, result.getBookedAttendees());
+        verify(waitlistService).promote(1L, 5);
+        verify(seatReservationLedger).reset(1L, 3);
+    }
+
+    @Test
+    void testUpdate_whenDateChanged() {
+        UpdateEventRequest request = new UpdateEventRequest();
+        LocalDate newDate = LocalDate.now().plusDays(10);
+        request.setDate(newDate);
+
+        Event existEvent = Event.builder().id(1L).date(LocalDate.now()).maxAttendees(10).build();
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(existEvent));
+        doAnswer(invocation -> {
+            invocation.<Event>getArgument(1).setDate(newDate);
+            return null;
+        }).when(eventMapper).updateRequestToEvent(request, existEvent);
+        when(eventRepository.saveAndFlush(existEvent)).thenReturn(existEvent);
+
+        eventService.update(request, 1L);
+
+        verify(bookingRepository).updateEventDateByEventId(1L, newDate);
+    }
+
+    @Test
+    void testUpdate_whenVersionMismatch() {
+        UpdateEventRequest request = new UpdateEventRequest();
+        request.setName("new name");
+        request.setVersion(1L);
+
+        Event existEvent = Event.builder().id(1L).maxAttendees(10).version(2L).build();
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(existEvent));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> eventService.update(request, 1L));
+        verify(eventMapper, never()).updateRequestToEvent(any(), any());
+        verify(eventRepository, never()).saveAndFlush(any());
+    }
+
     @Test
     void testUpdate_whenNotExists() {
         UpdateEventRequest request = new UpdateEventRequest();
-        when(eventRepository.findById(1L)).thenReturn(Optional.empty());
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> eventService.update(request, 1L));
     }
@@ -128,9 +288,8 @@ public class EventServiceImplTest {
         UpdateEventRequest request = new UpdateEventRequest();
         request.setMaxAttendees(3);
 
-        Event existEvent = new Event();
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(existEvent));
-        when(bookingRepository.countByEventId(1L)).thenReturn(5);
+        Event existEvent = Event.builder().bookedAttendees(5).build();
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(existEvent));
 
         assertThrows(IllegalArgumentException.class, () -> eventService.update(request, 1L));
     }
@@ -140,6 +299,24 @@ public class EventServiceImplTest {
         eventService.deleteById(1L);
 
         verify(bookingRepository).deleteByEventId(1L);
+        verify(waitlistService).deleteByEventId(1L);
         verify(eventRepository).deleteById(1L);
+        verify(seatReservationLedger).remove(1L);
+        verify(eventSearchIndex).remove(1L);
+        verify(eventPageCache).evict(1L);
+    }
+
+    @Test
+    void testDeleteById_whenPurgedInBackground() {
+        when(eventPurgeService.purgeLater(1L)).thenReturn(true);
+
+        eventService.deleteById(1L);
+
+        verify(waitlistService).deleteByEventId(1L);
+        verify(bookingRepository, never()).deleteByEventId(anyLong());
+        verify(eventRepository, never()).deleteById(anyLong());
+        verify(seatReservationLedger).remove(1L);
+        verify(eventSearchIndex).remove(1L);
+        verify(eventPageCache).evict(1L);
     }
 }
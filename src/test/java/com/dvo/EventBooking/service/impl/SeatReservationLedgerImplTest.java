@@ -0,0 +1,160 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.EventSeatsProjection;
+import com.dvo.EventBooking.service.WaitlistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SeatReservationLedgerImplTest {
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SeatReservationLedgerImpl seatReservationLedger;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        List<EventSeatsProjection> events = List.of(seats(1L, 2));
+        when(eventRepository.findAllAvailableSeats()).thenReturn(events);
+
+        seatReservationLedger.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testTryAcquire_untilSoldOut() {
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertFalse(seatReservationLedger.tryAcquire(1L));
+    }
+
+    @Test
+    void testTryAcquire_whenEventUnknown() {
+        assertTrue(seatReservationLedger.tryAcquire(2L));
+    }
+
+    @Test
+    void testRelease() {
+        seatReservationLedger.tryAcquire(1L);
+        seatReservationLedger.tryAcquire(1L);
+        seatReservationLedger.release(1L);
+
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertFalse(seatReservationLedger.tryAcquire(1L));
+    }
+
+    @Test
+    void testTryAcquire_returnsSeatOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        seatReservationLedger.tryAcquire(1L);
+        seatReservationLedger.tryAcquire(1L);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertFalse(seatReservationLedger.tryAcquire(1L));
+    }
+
+    @Test
+    void testMarkSoldOut() {
+        seatReservationLedger.markSoldOut(1L);
+
+        assertFalse(seatReservationLedger.tryAcquire(1L));
+    }
+
+    @Test
+    void testMarkSoldOut_keepsSeatReleasedBeforeCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        seatReservationLedger.markSoldOut(1L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        seatReservationLedger.release(1L);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+    }
+
+    @Test
+    void testReload_keepsSeatsOfInFlightTransactions() {
+        TransactionSynchronizationManager.initSynchronization();
+        seatReservationLedger.tryAcquire(1L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        seatReservationLedger.reload();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertFalse(seatReservationLedger.tryAcquire(1L));
+    }
+
+    @Test
+    void testResync_promotesWaitlistWhenSeatsRise() {
+        List<EventSeatsProjection> remaining = List.of(seats(1L, 1));
+        when(eventRepository.findAvailableSeatsByIdIn(List.of(1L))).thenReturn(remaining);
+        seatReservationLedger.markSoldOut(1L);
+
+        seatReservationLedger.resync();
+
+        verify(eventRepository).findAllByIdInForUpdate(List.of(1L));
+        verify(waitlistService).promoteAvailable(List.of(1L));
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+        assertFalse(seatReservationLedger.tryAcquire(1L));
+    }
+
+    @Test
+    void testResync_skipsPromotionWhenSeatsUnchanged() {
+        seatReservationLedger.resync();
+
+        verifyNoInteractions(waitlistService);
+    }
+
+    @Test
+    void testResetAndRemove() {
+        seatReservationLedger.reset(1L, 0);
+        assertFalse(seatReservationLedger.tryAcquire(1L));
+
+        seatReservationLedger.remove(1L);
+        assertTrue(seatReservationLedger.tryAcquire(1L));
+    }
+
+    private static EventSeatsProjection seats(Long id, int availableSeats) {
+        EventSeatsProjection seats = mock(EventSeatsProjection.class);
+        when(seats.getId()).thenReturn(id);
+        when(seats.getAvailableSeats()).thenReturn(availableSeats);
+
+        return seats;
+    }
+}
@@ -6,18 +6,28 @@ import com.dvo.EventBooking.exception.EntityExistsException;
 import com.dvo.EventBooking.exception.EntityNotFoundException;
 import com.dvo.EventBooking.mapping.UserMapper;
 import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
 import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.security.PasswordHasher;
+import com.dvo.EventBooking.security.UserPrincipalCache;
+import com.dvo.EventBooking.service.EventPageCache;
+import com.dvo.EventBooking.service.SeatReservationLedger;
+import com.dvo.EventBooking.service.WaitlistService;
 import com.dvo.EventBooking.web.model.request.UpdateUserRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,18 +42,40 @@ public class UserServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
     @Mock
     private UserMapper userMapper;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SeatReservationLedger seatReservationLedger;
+
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private EventPageCache eventPageCache;
+
+    @Mock
+    private WaitlistService waitlistService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -55,6 +87,14 @@ public class UserServiceImplTest {
         assertEquals(1, result.getTotalElements());
     }
 
+    @Test
+    void testFindAllAfter() {
+        when(userRepository.findAllByIdGreaterThanOrderByIdAsc(5L, Limit.of(11))).thenReturn(List.of(new User()));
+
+        List<User> result = userService.findAllAfter(5L, 11);
+        assertEquals(1, result.size());
+    }
+
     @Test
     void testFindByUsername_whenExists() {
         User user = new User();
@@ -95,20 +135,19 @@ public class UserServiceImplTest {
                 .lastName("lastname")
                 .build();
 
-        when(userRepository.existsByUsernameAndEmail("user", "email@ya.ru")).thenReturn(false);
-        when(userRepository.existsByUsername("user")).thenReturn(false);
-        when(passwordEncoder.encode("12345")).thenReturn("encoded");
-        when(userRepository.save(any())).thenReturn(user);
+        when(passwordHasher.encode("12345")).thenReturn("encoded");
+        when(userRepository.saveAndFlush(any())).thenReturn(user);
 
         User result = userService.save(user, RoleType.ROLE_USER);
 
         assertEquals("encoded", result.getPassword());
         assertEquals(RoleType.ROLE_USER, result.getRoleType());
         assertEquals("user", result.getUsername());
+        verify(userRepository, never()).existsByUsernameAndEmail(anyString(), anyString());
     }
 
     @Test
-    void testSave_whenExistsByUsernameAndEmail() {
+    void testSave_whenExists() {
         User user = User.builder()
                 .username("user")
                 .email("email@ya.ru")
@@ -117,23 +156,8 @@ public class UserServiceImplTest {
                 .lastName("lastname")
                 .build();
 
-        when(userRepository.existsByUsernameAndEmail("user", "email@ya.ru")).thenReturn(true);
-
-        assertThrows(EntityExistsException.class, () -> userService.save(user, RoleType.ROLE_USER));
-    }
-
-    @Test
-    void testSave_whenExistsByUsernameOnly() {
-        User user = User.builder()
-                .username("user")
-                .email("email@ya.ru")
-                .password("12345")
-                .firstName("firstname")
-                .lastName("lastname")
-                .build();
-
-        when(userRepository.existsByUsernameAndEmail("user", "email@ya.ru")).thenReturn(false);
-        when(userRepository.existsByUsername("user")).thenReturn(true);
+        when(passwordHasher.encode("12345")).thenReturn("encoded");
+        when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("users_username_key"));
 
         assertThrows(EntityExistsException.class, () -> userService.save(user, RoleType.ROLE_USER));
     }
@@ -152,6 +176,7 @@ public class UserServiceImplTest {
 
         User result = userService.update(request, "user");
         verify(userMapper).updateRequestToUser(request, existUser);
+        verify(userPrincipalCache).evict("user");
         assertEquals(existUser, result);
     }
 
@@ -165,9 +190,15 @@ public class UserServiceImplTest {
 
     @Test
     void testDeleteById() {
+        when(bookingRepository.findEventIdsByUserId(1L)).thenReturn(List.of(2L, 3L));
+
         userService.deleteById(1L);
+        verify(eventRepository).releaseSeatsByUserId(1L);
         verify(bookingRepository).deleteByUserId(1L);
+        verify(waitlistService).deleteByUserId(1L);
+        verify(waitlistService).promoteAvailable(List.of(2L, 3L));
         verify(userRepository).deleteById(1L);
+        verify(userPrincipalCache).evictById(1L);
     }
 
     @Test
@@ -176,10 +207,15 @@ public class UserServiceImplTest {
                 .id(1L)
                 .build();
         when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(bookingRepository.findEventIdsByUserId(1L)).thenReturn(List.of(2L));
 
         userService.deleteByUsername("user");
+        verify(eventRepository).releaseSeatsByUserId(1L);
         verify(bookingRepository).deleteByUserId(1L);
+        verify(waitlistService).deleteByUserId(1L);
+        verify(waitlistService).promoteAvailable(List.of(2L));
         verify(userRepository).deleteByUsername("user");
+        verify(userPrincipalCache).evict("user");
     }
 
     @Test
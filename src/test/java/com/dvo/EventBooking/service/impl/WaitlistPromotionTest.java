@@ -0,0 +1,86 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.repository.WaitlistRepository;
+import com.dvo.EventBooking.service.WaitlistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class WaitlistPromotionTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private SeatReservationLedgerImpl seatReservationLedger;
+
+    private User user;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("waitlisted")
+                .password("password")
+                .email("waitlisted@ya.ru")
+                .roleType(RoleType.ROLE_USER)
+                .build());
+        event = eventRepository.save(Event.builder()
+                .name("event")
+                .description("description")
+                .city("city")
+                .address("address")
+                .date(LocalDate.now())
+                .maxAttendees(1)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        waitlistRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testResync_promotesUserWaitlistedWhileSeatsFree() {
+        seatReservationLedger.reload();
+        seatReservationLedger.markSoldOut(event.getId());
+        waitlistService.enqueue(user.getId(), event.getId());
+
+        seatReservationLedger.resync();
+
+        assertEquals(1, bookingRepository.countByEventId(event.getId()));
+        assertTrue(waitlistRepository.findByEventIdAndUserId(event.getId(), user.getId()).isEmpty());
+        assertEquals(0, eventRepository.findAvailableSeatsByIdIn(List.of(event.getId())).get(0).getAvailableSeats());
+    }
+}
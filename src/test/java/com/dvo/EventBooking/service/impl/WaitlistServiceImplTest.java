@@ -0,0 +1,153 @@
+package com.dvo.EventBooking.service.impl;
+
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.entity.WaitlistEntry;
+import com.dvo.EventBooking.exception.EntityNotFoundException;
+import com.dvo.EventBooking.metrics.BookingMetrics;
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.EventSeatsProjection;
+import com.dvo.EventBooking.repository.UserRepository;
+import com.dvo.EventBooking.repository.WaitlistRepository;
+import com.dvo.EventBooking.web.model.response.WaitlistResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class WaitlistServiceImplTest {
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @InjectMocks
+    private WaitlistServiceImpl waitlistService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testEnqueue() {
+        WaitlistEntry entry = WaitlistEntry.builder().id(5L).build();
+
+        when(waitlistRepository.findByEventIdAndUserId(2L, 1L)).thenReturn(Optional.empty(), Optional.of(entry));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(waitlistRepository.insertIfAbsent(eq(1L), eq(2L), any())).thenReturn(1);
+        when(waitlistRepository.countByEventIdAndIdLessThanEqual(2L, 5L)).thenReturn(3L);
+
+        WaitlistResponse result = waitlistService.enqueue(1L, 2L);
+
+        assertEquals(3, result.getPosition());
+        verify(waitlistRepository).insertIfAbsent(eq(1L), eq(2L), any());
+    }
+
+    @Test
+    void testEnqueue_whenInsertedConcurrently() {
+        WaitlistEntry entry = WaitlistEntry.builder().id(4L).build();
+
+        when(waitlistRepository.findByEventIdAndUserId(2L, 1L)).thenReturn(Optional.empty(), Optional.of(entry));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(waitlistRepository.insertIfAbsent(eq(1L), eq(2L), any())).thenReturn(0);
+        when(waitlistRepository.countByEventIdAndIdLessThanEqual(2L, 4L)).thenReturn(1L);
+
+        WaitlistResponse result = waitlistService.enqueue(1L, 2L);
+
+        assertEquals(1, result.getPosition());
+    }
+
+    @Test
+    void testEnqueue_whenAlreadyWaitlisted() {
+        WaitlistEntry entry = WaitlistEntry.builder().id(5L).build();
+
+        when(waitlistRepository.findByEventIdAndUserId(2L, 1L)).thenReturn(Optional.of(entry));
+        when(waitlistRepository.countByEventIdAndIdLessThanEqual(2L, 5L)).thenReturn(2L);
+
+        WaitlistResponse result = waitlistService.enqueue(1L, 2L);
+
+        assertEquals(2, result.getPosition());
+        verify(waitlistRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void testEnqueue_whenUserNotExists() {
+        when(waitlistRepository.findByEventIdAndUserId(2L, 1L)).thenReturn(Optional.empty());
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> waitlistService.enqueue(1L, 2L));
+        verify(waitlistRepository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    void testPromote() {
+        Event event = Event.builder().id(2L).build();
+        List<WaitlistEntry> entries = List.of(
+                WaitlistEntry.builder().id(5L).user(User.builder().id(1L).build()).event(event).build(),
+                WaitlistEntry.builder().id(6L).user(User.builder().id(3L).build()).event(event).build()
+        );
+
+        when(waitlistRepository.findAllByEventIdOrderById(2L, Limit.of(3))).thenReturn(entries);
+        when(eventRepository.reserveSeats(2L, 2)).thenReturn(1);
+
+        assertEquals(2, waitlistService.promote(2L, 3));
+        verify(bookingRepository).insertAll(argThat(bookings -> bookings.size() == 2
+                && bookings.get(0).getUser().getId().equals(1L)
+                && bookings.get(1).getUser().getId().equals(3L)));
+        verify(waitlistRepository).deleteAllInBatch(entries);
+        verify(bookingMetrics).accepted(2);
+    }
+
+    @Test
+    void testPromote_whenWaitlistEmpty() {
+        when(waitlistRepository.findAllByEventIdOrderById(2L, Limit.of(1))).thenReturn(List.of());
+
+        assertEquals(0, waitlistService.promote(2L, 1));
+        verify(eventRepository, never()).reserveSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void testPromoteAvailable() {
+        Event event = Event.builder().id(2L).build();
+        List<WaitlistEntry> entries = List.of(WaitlistEntry.builder().id(5L).user(User.builder().id(1L).build()).event(event).build());
+        EventSeatsProjection seats = mock(EventSeatsProjection.class);
+        EventSeatsProjection soldOut = mock(EventSeatsProjection.class);
+        when(seats.getId()).thenReturn(2L);
+        when(seats.getAvailableSeats()).thenReturn(2);
+        when(soldOut.getId()).thenReturn(3L);
+        when(soldOut.getAvailableSeats()).thenReturn(0);
+
+        when(eventRepository.findAvailableSeatsByIdIn(List.of(2L, 3L))).thenReturn(List.of(seats, soldOut));
+        when(waitlistRepository.findAllByEventIdOrderById(2L, Limit.of(2))).thenReturn(entries);
+        when(eventRepository.reserveSeats(2L, 1)).thenReturn(1);
+
+        assertEquals(1, waitlistService.promoteAvailable(List.of(2L, 3L)));
+        verify(waitlistRepository, never()).findAllByEventIdOrderById(eq(3L), any());
+    }
+
+    @Test
+    void testPromoteAvailable_whenNoEvents() {
+        assertEquals(0, waitlistService.promoteAvailable(List.of()));
+        verify(eventRepository, never()).findAvailableSeatsByIdIn(any());
+    }
+}
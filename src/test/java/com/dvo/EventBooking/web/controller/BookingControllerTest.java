@@ -4,10 +4,17 @@ import com.dvo.EventBooking.configuration.SecurityConfiguration;
 import com.dvo.EventBooking.entity.Booking;
 import com.dvo.EventBooking.entity.Event;
 import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.exception.BookingIntakeUnavailableException;
+import com.dvo.EventBooking.exception.BookingQueueFullException;
 import com.dvo.EventBooking.mapping.BookingMapper;
+import com.dvo.EventBooking.service.BookingIntakeService;
 import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.web.model.request.CursorPaginationRequest;
 import com.dvo.EventBooking.web.model.request.UpdateBookingRequest;
 import com.dvo.EventBooking.web.model.request.UpsertBookingRequest;
+import com.dvo.EventBooking.web.model.response.BookingBatchItemResponse;
+import com.dvo.EventBooking.web.model.response.BookingRequestResponse;
+import com.dvo.EventBooking.web.model.response.BookingRequestStatus;
 import com.dvo.EventBooking.web.model.response.BookingResponse;
 import com.dvo.EventBooking.web.model.response.BookingShortResponse;
 import com.dvo.EventBooking.web.model.response.EventShortResponse;
@@ -22,15 +29,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -46,6 +56,9 @@ public class BookingControllerTest {
     @Autowired
     private BookingMapper bookingMapper;
 
+    @Autowired
+    private BookingIntakeService bookingIntakeService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,10 +82,16 @@ public class BookingControllerTest {
         public BookingMapper bookingMapper() {
             return mock(BookingMapper.class);
         }
+
+        @Bean
+        public BookingIntakeService bookingIntakeService() {
+            return mock(BookingIntakeService.class);
+        }
     }
 
     @BeforeEach
     void setUp() {
+        reset(bookingIntakeService, bookingMapper);
         user = User.builder().id(1L).username("user").build();
         event = Event.builder().id(1L).name("event").build();
         userResponse = UserResponse.builder().username("user").build();
@@ -86,8 +105,7 @@ public class BookingControllerTest {
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     void testGetAll() throws Exception {
-        when(bookingService.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(booking)));
-        when(bookingMapper.bookingToShortResponse(any(Booking.class))).thenReturn(bookingShortResponse);
+        when(bookingService.findAllShort(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(bookingShortResponse)));
 
         mockMvc.perform(get(URL + "?pageNumber=0&pageSize=10"))
                 .andExpect(status().isOk())
@@ -95,6 +113,38 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.data[0].userId").value(1L));
     }
 
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetAllByCursor() throws Exception {
+        BookingShortResponse next = BookingShortResponse.builder().id(2L).userId(1L).eventId(1L).build();
+        when(bookingService.findAllShortAfter(0L, 2)).thenReturn(List.of(bookingShortResponse, next));
+
+        mockMvc.perform(get(URL + "/cursor?pageSize=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value(CursorPaginationRequest.encode(1L)))
+                .andExpect(jsonPath("$.totalCount").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetAllByCursor_whenLastPage() throws Exception {
+        when(bookingService.findAllShortAfter(1L, 11)).thenReturn(List.of(bookingShortResponse));
+
+        mockMvc.perform(get(URL + "/cursor?pageSize=10&cursor=" + CursorPaginationRequest.encode(1L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetAllByCursor_whenCursorInvalid() throws Exception {
+        mockMvc.perform(get(URL + "/cursor?pageSize=10&cursor=invalid"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     void testGetById() throws Exception {
@@ -105,7 +155,20 @@ public class BookingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.user.username").value("user"))
-                .andExpect(jsonPath("$.event.name").value("event"));
+                .andExpect(jsonPath("$.event.name").value("event"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0.0.0\""));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetById_whenNotModified() throws Exception {
+        when(bookingService.findById(1L)).thenReturn(booking);
+
+        mockMvc.perform(get(URL + "/id/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0.0.0.0\""))
+                .andExpect(status().isNotModified());
+
+        verify(bookingMapper, never()).bookingToResponse(booking);
     }
 
     @Test
@@ -124,6 +187,95 @@ public class BookingControllerTest {
         verify(bookingService).save(any(UpsertBookingRequest.class));
     }
 
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testCreate_whenIntakeEnabled() throws Exception {
+        UpsertBookingRequest request = UpsertBookingRequest.builder().userId(1L).eventId(1L).build();
+        UUID requestId = UUID.randomUUID();
+
+        when(bookingIntakeService.isEnabled()).thenReturn(true);
+        when(bookingIntakeService.submit(request)).thenReturn(BookingRequestResponse.builder()
+                .requestId(requestId).status(BookingRequestStatus.PENDING).userId(1L).eventId(1L).build());
+
+        mockMvc.perform(post(URL + "/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.requestId").value(requestId.toString()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(bookingService, never()).save(request);
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testCreate_whenIntakeQueueFull() throws Exception {
+        UpsertBookingRequest request = UpsertBookingRequest.builder().userId(1L).eventId(1L).build();
+
+        when(bookingIntakeService.isEnabled()).thenReturn(true);
+        when(bookingIntakeService.submit(request)).thenThrow(new BookingQueueFullException("Booking queue for event with ID: 1 is full"));
+
+        mockMvc.perform(post(URL + "/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testCreate_whenIntakeStopped() throws Exception {
+        UpsertBookingRequest request = UpsertBookingRequest.builder().userId(1L).eventId(1L).build();
+
+        when(bookingIntakeService.isEnabled()).thenReturn(true);
+        when(bookingIntakeService.submit(request)).thenThrow(new BookingIntakeUnavailableException("Booking intake is not running"));
+
+        mockMvc.perform(post(URL + "/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    void testFindRequestById() throws Exception {
+        UUID requestId = UUID.randomUUID();
+
+        when(bookingIntakeService.findByRequestId(requestId)).thenReturn(BookingRequestResponse.builder()
+                .requestId(requestId).status(BookingRequestStatus.CREATED).userId(1L).eventId(1L).bookingId(10L).build());
+
+        mockMvc.perform(get(URL + "/requests/" + requestId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.bookingId").value(10L));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testCreateBatch() throws Exception {
+        List<UpsertBookingRequest> requests = List.of(
+                UpsertBookingRequest.builder().userId(1L).eventId(1L).build(),
+                UpsertBookingRequest.builder().userId(1L).eventId(2L).build()
+        );
+
+        when(bookingService.saveAll(anyList())).thenReturn(List.of(
+                BookingBatchItemResponse.builder().index(0).userId(1L).eventId(1L).bookingId(10L).created(true).build(),
+                BookingBatchItemResponse.builder().index(1).userId(1L).eventId(2L).error("Event with ID: 2 is full").build()
+        ));
+
+        mockMvc.perform(post(URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.data[0].bookingId").value(10L))
+                .andExpect(jsonPath("$.data[1].created").value(false))
+                .andExpect(jsonPath("$.data[1].error").value("Event with ID: 2 is full"));
+
+        verify(bookingService).saveAll(anyList());
+    }
+
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     void testUpdate() throws Exception {
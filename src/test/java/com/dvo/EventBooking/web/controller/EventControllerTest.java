@@ -1,18 +1,26 @@
 package com.dvo.EventBooking.web.controller;
 
+import com.dvo.EventBooking.configuration.BinaryEncodingConfiguration;
 import com.dvo.EventBooking.configuration.SecurityConfiguration;
 import com.dvo.EventBooking.entity.Event;
-import com.dvo.EventBooking.mapping.BookingMapper;
 import com.dvo.EventBooking.mapping.EventMapper;
+import com.dvo.EventBooking.service.BookingExportService;
 import com.dvo.EventBooking.service.BookingService;
+import com.dvo.EventBooking.service.EventImportService;
 import com.dvo.EventBooking.service.EventService;
 import com.dvo.EventBooking.web.model.filter.EventFilter;
 import com.dvo.EventBooking.web.model.request.UpdateEventRequest;
 import com.dvo.EventBooking.web.model.request.UpsertEventRequest;
 import com.dvo.EventBooking.web.model.response.BookingShortResponse;
+import com.dvo.EventBooking.web.model.request.CursorPaginationRequest;
+import com.dvo.EventBooking.web.model.request.BookingExportFormat;
+import com.dvo.EventBooking.web.model.request.EventImportFormat;
+import com.dvo.EventBooking.web.model.response.EventImportProgressResponse;
 import com.dvo.EventBooking.web.model.response.EventResponse;
 import com.dvo.EventBooking.web.model.response.EventShortResponse;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,22 +28,27 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.Writer;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.mock;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EventController.class)
-@Import({EventControllerTest.MockConfig.class, SecurityConfiguration.class})
+@Import({EventControllerTest.MockConfig.class, SecurityConfiguration.class, BinaryEncodingConfiguration.class})
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 public class EventControllerTest {
     @Autowired
@@ -54,7 +67,10 @@ public class EventControllerTest {
     private BookingService bookingService;
 
     @Autowired
-    private BookingMapper bookingMapper;
+    private EventImportService eventImportService;
+
+    @Autowired
+    private BookingExportService bookingExportService;
 
     private Event event;
     private EventShortResponse eventShortResponse;
@@ -81,8 +97,13 @@ public class EventControllerTest {
         }
 
         @Bean
-        public BookingMapper bookingMapper() {
-            return mock(BookingMapper.class);
+        public EventImportService eventImportService() {
+            return mock(EventImportService.class);
+        }
+
+        @Bean
+        public BookingExportService bookingExportService() {
+            return mock(BookingExportService.class);
         }
     }
 
@@ -132,9 +153,7 @@ public class EventControllerTest {
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     void testFindAllByFilter() throws Exception {
-        when(eventService.findAllByFilter(any(EventFilter.class))).thenReturn(List.of(event));
-        when(eventMapper.eventToShortResponse(event)).thenReturn(eventShortResponse);
-        when(bookingService.countByEventId(event.getId())).thenReturn(10);
+        when(eventService.findAllShortByFilter(any(EventFilter.class))).thenReturn(List.of(eventShortResponse));
 
         mockMvc.perform(get(URL)
                         .param("pageNumber", "0")
@@ -144,26 +163,90 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.data[0].id").value(event.getId()))
                 .andExpect(jsonPath("$.data[0].availableAttendees").value(90));
 
-        verify(eventService).findAllByFilter(any(EventFilter.class));
-        verify(eventMapper).eventToShortResponse(event);
-        verify(bookingService).countByEventId(event.getId());
+        verify(eventService).findAllShortByFilter(any(EventFilter.class));
+        verify(bookingService, never()).countByEventId(anyLong());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testFindAllByFilter_whenCborAccepted() throws Exception {
+        when(eventService.findAllShortByFilter(any(EventFilter.class))).thenReturn(List.of(eventShortResponse));
+
+        byte[] body = mockMvc.perform(get(URL)
+                        .param("pageNumber", "0")
+                        .param("pageSize", "10")
+                        .accept(MediaType.parseMediaType("application/cbor")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = new CBORMapper().readTree(body);
+        assertEquals(1, response.get("totalCount").asLong());
+        assertEquals(LocalDate.now().toString(), response.get("data").get(0).get("date").asText());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testFindAllByFilter_whenPageSizeTooLarge() throws Exception {
+        mockMvc.perform(get(URL)
+                        .param("pageNumber", "0")
+                        .param("pageSize", "1001"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).findAllShortByFilter(any(EventFilter.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testFindAllByCursor() throws Exception {
+        when(eventService.findAllByFilterAfter(any(EventFilter.class), eq(1L), eq(11))).thenReturn(List.of(event));
+        when(eventMapper.eventToShortResponse(event)).thenReturn(eventShortResponse);
+
+        mockMvc.perform(get(URL + "/cursor")
+                        .param("pageSize", "10")
+                        .param("cursor", CursorPaginationRequest.encode(1L))
+                        .param("city", "city"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(event.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(eventService).findAllByFilterAfter(argThat(filter -> "city".equals(filter.getCity())), eq(1L), eq(11));
     }
 
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     void testFindById() throws Exception {
         when(eventService.findById(1L)).thenReturn(event);
-        when(bookingService.findAllByEventId(1L)).thenReturn(List.of());
+        when(bookingService.findAllShortByEventId(1L)).thenReturn(List.of(bookingShortResponse));
         when(eventMapper.eventToResponse(eq(event), anyList())).thenReturn(eventResponse);
 
         mockMvc.perform(get(URL + "/id/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(event.getId()))
-                .andExpect(jsonPath("$.name").value("name"));
+                .andExpect(jsonPath("$.name").value("name"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""));
 
         verify(eventService).findById(1L);
-        verify(bookingService).findAllByEventId(1L);
-        verify(eventMapper).eventToResponse(eq(event), anyList());
+        verify(bookingService).findAllShortByEventId(1L);
+        verify(bookingService, never()).findAllByEventId(anyLong());
+        verify(eventMapper).eventToResponse(event, List.of(bookingShortResponse));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testFindById_whenNotModified() throws Exception {
+        event.setVersion(2L);
+        event.setBookingsVersion(5L);
+        when(eventService.findById(1L)).thenReturn(event);
+
+        mockMvc.perform(get(URL + "/id/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2.5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2.5\""))
+                .andExpect(content().string(""));
+
+        verify(bookingService, never()).findAllShortByEventId(anyLong());
+        verify(eventMapper, never()).eventToResponse(any(), anyList());
     }
 
     @Test
@@ -180,7 +263,6 @@ public class EventControllerTest {
 
         when(eventMapper.requestToEvent(request)).thenReturn(event);
         when(eventService.save(any(Event.class))).thenReturn(event);
-        when(bookingService.findAllByEventId(event.getId())).thenReturn(List.of());
         when(eventMapper.eventToResponse(eq(event), anyList())).thenReturn(eventResponse);
 
         mockMvc.perform(post(URL + "/create")
@@ -190,8 +272,60 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.id").value(event.getId()))
                 .andExpect(jsonPath("$.name").value(event.getName()));
 
-        verify(eventMapper).eventToResponse(eq(event), anyList());
+        verify(eventMapper).eventToResponse(event, List.of());
         verify(eventService).save(any(Event.class));
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testImportEvents() throws Exception {
+        when(eventImportService.importEvents(any(), eq(EventImportFormat.CSV), any()))
+                .thenReturn(EventImportProgressResponse.builder().processed(1).imported(1).completed(true).build());
+
+        mockMvc.perform(post(URL + "/import")
+                        .contentType("text/csv")
+                        .content("name,description,city,address,date,maxAttendees"))
+                .andExpect(status().isOk());
+
+        verify(eventImportService).importEvents(any(), eq(EventImportFormat.CSV), any());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    void testImportEvents_whenNotAdmin() throws Exception {
+        mockMvc.perform(post(URL + "/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(eventImportService);
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testExportBookings() throws Exception {
+        when(bookingExportService.exportByEventId(eq(1L), eq(BookingExportFormat.CSV), any())).thenAnswer(invocation -> {
+            Writer writer = invocation.getArgument(2);
+            writer.write("bookingId,createDate,userId,username,email,firstName,lastName\n");
+            return 0L;
+        });
+
+        mockMvc.perform(get(URL + "/id/1/bookings/export").accept("text/csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("bookingId,createDate,userId,username,email,firstName,lastName\n"));
+
+        verify(bookingExportService).exportByEventId(eq(1L), eq(BookingExportFormat.CSV), any());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    void testExportBookings_whenNotAdmin() throws Exception {
+        mockMvc.perform(get(URL + "/id/1/bookings/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(bookingExportService);
     }
 
     @Test
@@ -213,7 +347,7 @@ public class EventControllerTest {
                 .build();
 
         when(eventService.update(any(UpdateEventRequest.class), anyLong())).thenReturn(updatedEvent);
-        when(bookingService.findAllByEventId(1L)).thenReturn(List.of());
+        when(bookingService.findAllShortByEventId(1L)).thenReturn(List.of());
         when(eventMapper.eventToResponse(eq(updatedEvent), anyList())).thenReturn(eventResponse);
 
         mockMvc.perform(put(URL + "/update/1")
@@ -223,7 +357,7 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.name").value("name"));
 
         verify(eventService).update(any(UpdateEventRequest.class), eq(1L));
-        verify(bookingService).findAllByEventId(1L);
+        verify(bookingService).findAllShortByEventId(1L);
         verify(eventMapper).eventToResponse(eq(updatedEvent), anyList());
     }
 
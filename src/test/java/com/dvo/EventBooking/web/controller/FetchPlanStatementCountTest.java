@@ -0,0 +1,122 @@
+package com.dvo.EventBooking.web.controller;
+
+import com.dvo.EventBooking.entity.Booking;
+import com.dvo.EventBooking.entity.Event;
+import com.dvo.EventBooking.entity.RoleType;
+import com.dvo.EventBooking.entity.User;
+import com.dvo.EventBooking.repository.BookingRepository;
+import com.dvo.EventBooking.repository.EventRepository;
+import com.dvo.EventBooking.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class FetchPlanStatementCountTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Event event;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = userRepository.save(User.builder()
+                .username("user")
+                .password("password")
+                .email("user@ya.ru")
+                .roleType(RoleType.ROLE_USER)
+                .build());
+        event = eventRepository.save(Event.builder()
+                .name("name")
+                .description("description")
+                .city("city")
+                .address("address")
+                .date(LocalDate.now())
+                .maxAttendees(10)
+                .bookedAttendees(3)
+                .build());
+        List<Booking> bookings = bookingRepository.saveAll(List.of(
+                Booking.builder().user(user).event(event).createDate(LocalDate.now()).build(),
+                Booking.builder().user(user).event(event).createDate(LocalDate.now()).build(),
+                Booking.builder().user(user).event(event).createDate(LocalDate.now()).build()
+        ));
+        booking = bookings.get(0);
+
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testEventFindById() throws Exception {
+        mockMvc.perform(get("/api/events/id/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableAttendees").value(7))
+                .andExpect(jsonPath("$.bookings.length()").value(3));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testBookingFindById() throws Exception {
+        mockMvc.perform(get("/api/bookings/id/" + booking.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("user"))
+                .andExpect(jsonPath("$.event.name").value("name"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testBookingFindAll() throws Exception {
+        mockMvc.perform(get("/api/bookings?pageNumber=0&pageSize=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(3))
+                .andExpect(jsonPath("$.data.length()").value(2));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
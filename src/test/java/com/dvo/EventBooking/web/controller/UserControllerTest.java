@@ -4,6 +4,7 @@ import com.dvo.EventBooking.configuration.SecurityConfiguration;
 import com.dvo.EventBooking.entity.User;
 import com.dvo.EventBooking.mapping.UserMapper;
 import com.dvo.EventBooking.service.UserService;
+import com.dvo.EventBooking.web.model.request.CursorPaginationRequest;
 import com.dvo.EventBooking.web.model.request.UpdateUserRequest;
 import com.dvo.EventBooking.web.model.request.UpsertUserRequest;
 import com.dvo.EventBooking.web.model.response.UserResponse;
@@ -78,6 +79,22 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.totalCount").value(1));
     }
 
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetAllUsersByCursor() throws Exception {
+        User next = User.builder().id(2L).username("next").build();
+        when(userService.findAllAfter(0L, 2)).thenReturn(List.of(user, next));
+        when(userMapper.userToResponse(user)).thenReturn(response);
+
+        mockMvc.perform(get(URL + "/cursor?pageSize=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].username").value("user"))
+                .andExpect(jsonPath("$.nextCursor").value(CursorPaginationRequest.encode(1L)));
+
+        verify(userMapper, never()).userToResponse(next);
+    }
+
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     void testGetByUsername() throws Exception {